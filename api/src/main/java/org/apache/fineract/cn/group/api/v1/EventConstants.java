@@ -34,6 +34,8 @@ public interface EventConstants {
 
   String POST_GROUP = "post-group";
   String SELECTOR_POST_GROUP = SELECTOR_NAME + " = '" + POST_GROUP + "'";
+  String POST_GROUPS = "post-groups";
+  String SELECTOR_POST_GROUPS = SELECTOR_NAME + " = '" + POST_GROUPS + "'";
   String PUT_GROUP = "put-group";
   String SELECTOR_PUT_GROUP = SELECTOR_NAME + " = '" + PUT_GROUP + "'";
   String ACTIVATE_GROUP = "activate-group";
@@ -47,4 +49,6 @@ public interface EventConstants {
   String SELECTOR_POST_MEETING = SELECTOR_NAME + " = '" + POST_MEETING + "'";
   String PUT_MEETING = "put-meeting";
   String SELECTOR_PUT_MEETING = SELECTOR_NAME + " = '" + PUT_MEETING + "'";
+  String PUT_MEETINGS = "put-meetings";
+  String SELECTOR_PUT_MEETINGS = SELECTOR_NAME + " = '" + PUT_MEETINGS + "'";
 }
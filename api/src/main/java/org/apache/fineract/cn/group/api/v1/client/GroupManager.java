@@ -19,7 +19,9 @@
 package org.apache.fineract.cn.group.api.v1.client;
 
 import org.apache.fineract.cn.group.api.v1.domain.AssignedEmployeeHolder;
+import org.apache.fineract.cn.group.api.v1.domain.CommandStatus;
 import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.api.v1.domain.GroupBatchResult;
 import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
 import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
 import org.apache.fineract.cn.group.api.v1.domain.GroupPage;
@@ -31,10 +33,13 @@ import org.apache.fineract.cn.api.annotation.ThrowsException;
 import org.apache.fineract.cn.api.annotation.ThrowsExceptions;
 import org.apache.fineract.cn.api.util.CustomFeignClientsConfiguration;
 import org.springframework.cloud.netflix.feign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -99,6 +104,30 @@ public interface GroupManager {
   })
   void createGroup(@RequestBody final Group group);
 
+  // same as createGroup, the Location header of the response points to the status of the accepted command
+  @RequestMapping(
+      value = "/groups",
+      method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  @ThrowsExceptions({
+      @ThrowsException(status = HttpStatus.CONFLICT, exception = GroupAlreadyExists.class),
+      @ThrowsException(status = HttpStatus.BAD_REQUEST, exception = GroupValidationException.class)
+  })
+  ResponseEntity<Void> createGroupTracked(@RequestBody final Group group);
+
+  @RequestMapping(
+      value = "/groups/batch",
+      method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  @ThrowsExceptions({
+      @ThrowsException(status = HttpStatus.BAD_REQUEST, exception = GroupValidationException.class)
+  })
+  List<GroupBatchResult> createGroups(@RequestBody final List<Group> groups);
+
   @RequestMapping(
       value = "/groups",
       method = RequestMethod.GET,
@@ -111,6 +140,38 @@ public interface GroupManager {
                         @RequestParam(value="sortColumn", required=false) final String sortColumn,
                         @RequestParam(value="sortDirection",required=false) final String sortDirection);
 
+  @RequestMapping(
+      value = "/groups",
+      method = RequestMethod.GET,
+      produces = MediaType.ALL_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  GroupPage fetchGroupsAfter(@RequestParam(value="employee", required=false) final String employee,
+                             @RequestParam(value="after") final String after,
+                             @RequestParam(value="size",required=false) final Integer size);
+
+  @RequestMapping(
+      value = "/groups/changes",
+      method = RequestMethod.GET,
+      produces = MediaType.ALL_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  GroupPage fetchGroupChanges(@RequestParam(value="since", required=false) final String since,
+                              @RequestParam(value="cursor", required=false) final String cursor,
+                              @RequestParam(value="size",required=false) final Integer size);
+
+  @RequestMapping(
+      value = "/groups",
+      method = RequestMethod.GET,
+      produces = MediaType.ALL_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  GroupPage fetchGroupsByMember(@RequestParam(value="member") final String customerIdentifier,
+                                @RequestParam(value="page", required=false) final Integer page,
+                                @RequestParam(value="size",required=false) final Integer size,
+                                @RequestParam(value="sortColumn", required=false) final String sortColumn,
+                                @RequestParam(value="sortDirection",required=false) final String sortDirection);
+
   @RequestMapping(
       value = "/groups/{identifier}",
       method = RequestMethod.GET,
@@ -120,6 +181,28 @@ public interface GroupManager {
   @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class)
   Group findGroup(@PathVariable("identifier") final String identifier);
 
+  @RequestMapping(
+      value = "/groups/{identifier}",
+      method = RequestMethod.GET,
+      produces = MediaType.ALL_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class)
+  ResponseEntity<Group> fetchGroup(@PathVariable("identifier") final String identifier);
+
+  @RequestMapping(
+      value = "/groups/{identifier}",
+      method = RequestMethod.GET,
+      produces = MediaType.ALL_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  @ThrowsExceptions({
+      @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class),
+      @ThrowsException(status = HttpStatus.NOT_MODIFIED, exception = GroupNotModifiedException.class)
+  })
+  ResponseEntity<Group> fetchGroupIfNoneMatch(@PathVariable("identifier") final String identifier,
+                                              @RequestHeader(HttpHeaders.IF_NONE_MATCH) final String ifNoneMatch);
+
   @RequestMapping(
           value = "/groups/{identifier}",
           method = RequestMethod.PUT,
@@ -132,6 +215,21 @@ public interface GroupManager {
   })
   void updateGroup(@PathVariable("identifier") final String identifier, @RequestBody final Group group);
 
+  @RequestMapping(
+      value = "/groups/{identifier}",
+      method = RequestMethod.PUT,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  @ThrowsExceptions({
+      @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class),
+      @ThrowsException(status = HttpStatus.BAD_REQUEST, exception = GroupValidationException.class),
+      @ThrowsException(status = HttpStatus.PRECONDITION_FAILED, exception = GroupVersionMismatchException.class)
+  })
+  void updateGroupIfMatch(@PathVariable("identifier") final String identifier,
+                          @RequestHeader(HttpHeaders.IF_MATCH) final String entityTag,
+                          @RequestBody final Group group);
+
 
   @RequestMapping(
       value = "/groups/{identifier}/leaders",
@@ -151,6 +249,26 @@ public interface GroupManager {
   @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class)
   void updateMembers(@PathVariable("identifier") final String identifier, final Set<String> customerIdentifiers);
 
+  @RequestMapping(
+      value = "/groups/{identifier}/members/{customerIdentifier}",
+      method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.ALL_VALUE
+  )
+  @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class)
+  void addMember(@PathVariable("identifier") final String identifier,
+                 @PathVariable("customerIdentifier") final String customerIdentifier);
+
+  @RequestMapping(
+      value = "/groups/{identifier}/members/{customerIdentifier}",
+      method = RequestMethod.DELETE,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.ALL_VALUE
+  )
+  @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class)
+  void removeMember(@PathVariable("identifier") final String identifier,
+                    @PathVariable("customerIdentifier") final String customerIdentifier);
+
   @RequestMapping(
       value = "/groups/{identifier}/employee",
       method = RequestMethod.PUT,
@@ -190,6 +308,39 @@ public interface GroupManager {
       @PathVariable("identifier") final String groupIdentifier,
       @RequestParam("upcoming") final Boolean upcoming);
 
+  @RequestMapping(
+      value = "/groups/{identifier}/meetings",
+      method = RequestMethod.GET,
+      produces = MediaType.ALL_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class)
+  List<Meeting> fetchMeetings(
+      @PathVariable("identifier") final String groupIdentifier,
+      @RequestParam("upcoming") final Boolean upcoming,
+      @RequestParam("attendees") final Boolean attendees);
+
+  @RequestMapping(
+      value = "/meetings",
+      method = RequestMethod.GET,
+      produces = MediaType.ALL_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  List<Meeting> fetchMeetingsByEmployee(@RequestParam("employee") final String employee,
+                                        @RequestParam("from") final String from,
+                                        @RequestParam("to") final String to);
+
+  @RequestMapping(
+      value = "/meetings",
+      method = RequestMethod.GET,
+      produces = MediaType.ALL_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  List<Meeting> fetchMeetingsByEmployee(@RequestParam("employee") final String employee,
+                                        @RequestParam("from") final String from,
+                                        @RequestParam("to") final String to,
+                                        @RequestParam(value = "attendees", required = false) final Boolean attendees);
+
   @RequestMapping(
       value = "/groups/{identifier}/meetings",
       method = RequestMethod.PUT,
@@ -198,4 +349,25 @@ public interface GroupManager {
   )
   @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class)
   void closeMeeting(@PathVariable("identifier") final String groupIdentifier, final SignOffMeeting signOffMeeting);
+
+  @RequestMapping(
+      value = "/groups/sign-offs",
+      method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  @ThrowsExceptions({
+      @ThrowsException(status = HttpStatus.NOT_FOUND, exception = GroupNotFoundException.class),
+      @ThrowsException(status = HttpStatus.BAD_REQUEST, exception = GroupValidationException.class)
+  })
+  void signOffMeetings(@RequestBody final List<SignOffMeeting> signOffMeetings);
+
+  @RequestMapping(
+      value = "/commands/{identifier}",
+      method = RequestMethod.GET,
+      produces = MediaType.ALL_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  @ThrowsException(status = HttpStatus.NOT_FOUND, exception = CommandNotFoundException.class)
+  CommandStatus fetchCommandStatus(@PathVariable("identifier") final String identifier);
 }
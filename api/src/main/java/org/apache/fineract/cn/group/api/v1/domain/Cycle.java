@@ -27,6 +27,7 @@ public class Cycle {
   @NotNull
   private Frequency frequency;
   private Adjustment adjustment;
+  private Schedule schedule;
 
   public Cycle() {
     super();
@@ -56,6 +57,14 @@ public class Cycle {
     this.adjustment = Adjustment.valueOf(adjustment);
   }
 
+  public String getSchedule() {
+    return this.schedule != null ? this.schedule.name() : null;
+  }
+
+  public void setSchedule(final String schedule) {
+    this.schedule = schedule != null ? Schedule.valueOf(schedule) : null;
+  }
+
   public enum Frequency {
     DAILY,
     WEEKLY,
@@ -67,4 +76,9 @@ public class Cycle {
     NEXT_BUSINESS_DAY,
     SKIP
   }
+
+  public enum Schedule {
+    EAGER,
+    LAZY
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.api.v1.domain;
+
+public class GroupBatchResult {
+
+  private String identifier;
+  private Status status;
+  private String message;
+
+  public GroupBatchResult() {
+    super();
+  }
+
+  public GroupBatchResult(final String identifier, final Status status, final String message) {
+    super();
+    this.identifier = identifier;
+    this.status = status;
+    this.message = message;
+  }
+
+  public String getIdentifier() {
+    return this.identifier;
+  }
+
+  public void setIdentifier(final String identifier) {
+    this.identifier = identifier;
+  }
+
+  public String getStatus() {
+    return this.status.name();
+  }
+
+  public void setStatus(final String status) {
+    this.status = Status.valueOf(status);
+  }
+
+  public String getMessage() {
+    return this.message;
+  }
+
+  public void setMessage(final String message) {
+    this.message = message;
+  }
+
+  public enum Status {
+    ACCEPTED,
+    INVALID,
+    CONFLICT,
+    NOT_FOUND
+  }
+}
@@ -25,6 +25,7 @@ public class GroupPage {
   private List<Group> groups;
   private Integer totalPages;
   private Long totalElements;
+  private String nextCursor;
 
   public GroupPage() {
     super();
@@ -53,4 +54,12 @@ public class GroupPage {
   public void setTotalElements(final Long totalElements) {
     this.totalElements = totalElements;
   }
+
+  public String getNextCursor() {
+    return this.nextCursor;
+  }
+
+  public void setNextCursor(final String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
 }
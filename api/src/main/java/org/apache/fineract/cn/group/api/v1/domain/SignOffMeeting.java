@@ -23,6 +23,7 @@ import java.util.Set;
 
 public class SignOffMeeting {
 
+  private String groupIdentifier;
   @Valid
   private Integer cycle;
   private Integer sequence;
@@ -33,6 +34,14 @@ public class SignOffMeeting {
     super();
   }
 
+  public String getGroupIdentifier() {
+    return this.groupIdentifier;
+  }
+
+  public void setGroupIdentifier(final String groupIdentifier) {
+    this.groupIdentifier = groupIdentifier;
+  }
+
   public Integer getCycle() {
     return this.cycle;
   }
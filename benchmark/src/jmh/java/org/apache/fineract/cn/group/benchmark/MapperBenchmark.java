@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.benchmark;
+
+import org.apache.fineract.cn.group.api.v1.domain.Attendee;
+import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.api.v1.domain.Meeting;
+import org.apache.fineract.cn.group.internal.mapper.AttendeeMapper;
+import org.apache.fineract.cn.group.internal.mapper.GroupMapper;
+import org.apache.fineract.cn.group.internal.mapper.GroupMemberMapper;
+import org.apache.fineract.cn.group.internal.mapper.MeetingMapper;
+import org.apache.fineract.cn.group.internal.repository.AttendeeEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupDefinitionEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupMemberEntity;
+import org.apache.fineract.cn.group.internal.repository.MeetingEntity;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+  @Param({"15", "60"})
+  private int numberOfMembers;
+
+  private GroupEntity groupEntity;
+  private MeetingEntity meetingEntity;
+  private List<AttendeeEntity> attendeeEntities;
+  private List<GroupMemberEntity> groupMemberEntities;
+  private Set<String> customerIdentifiers;
+
+  @Setup
+  public void setUp() {
+    final GroupDefinitionEntity groupDefinitionEntity = new GroupDefinitionEntity();
+    groupDefinitionEntity.setIdentifier("definition");
+
+    this.groupEntity = new GroupEntity();
+    this.groupEntity.setId(1L);
+    this.groupEntity.setIdentifier("group");
+    this.groupEntity.setGroupDefinition(groupDefinitionEntity);
+    this.groupEntity.setName("Benchmark group");
+    this.groupEntity.setOffice("office");
+    this.groupEntity.setAssignedEmployee("employee");
+    this.groupEntity.setWeekday(Group.Weekday.MONDAY.getValue());
+    this.groupEntity.setGroupStatus(Group.Status.ACTIVE.name());
+    this.groupEntity.setCreatedBy("creator");
+    this.groupEntity.setCreatedOn(LocalDateTime.now());
+    this.groupEntity.setLastModifiedBy("modifier");
+    this.groupEntity.setLastModifiedOn(LocalDateTime.now());
+
+    this.meetingEntity = new MeetingEntity();
+    this.meetingEntity.setId(1L);
+    this.meetingEntity.setGroupEntity(this.groupEntity);
+    this.meetingEntity.setCurrentCycle(1);
+    this.meetingEntity.setMeetingSequence(1);
+    this.meetingEntity.setScheduledFor(LocalDate.now());
+    this.meetingEntity.setHeldOn(LocalDate.now());
+    this.meetingEntity.setDuration(120L);
+    this.meetingEntity.setCreatedBy("creator");
+    this.meetingEntity.setCreatedOn(LocalDateTime.now());
+
+    this.attendeeEntities = new ArrayList<>(this.numberOfMembers);
+    this.groupMemberEntities = new ArrayList<>(this.numberOfMembers);
+    for (int i = 0; i < this.numberOfMembers; i++) {
+      final AttendeeEntity attendeeEntity = new AttendeeEntity();
+      attendeeEntity.setMeeting(this.meetingEntity);
+      attendeeEntity.setCustomerIdentifier("customer" + i);
+      attendeeEntity.setStatus(Attendee.Status.ATTENDED.name());
+      this.attendeeEntities.add(attendeeEntity);
+
+      final GroupMemberEntity groupMemberEntity = new GroupMemberEntity();
+      groupMemberEntity.setGroupId(1L);
+      groupMemberEntity.setCustomerIdentifier("customer" + i);
+      groupMemberEntity.setRole((i % 4 == 0 ? GroupMemberEntity.Role.LEADER : GroupMemberEntity.Role.MEMBER).name());
+      this.groupMemberEntities.add(groupMemberEntity);
+    }
+    this.customerIdentifiers = GroupMemberMapper.map(this.groupMemberEntities, GroupMemberEntity.Role.MEMBER);
+  }
+
+  @Benchmark
+  public Group mapGroup() {
+    return GroupMapper.map(this.groupEntity, this.groupEntity.getGroupDefinition().getIdentifier());
+  }
+
+  @Benchmark
+  public Meeting mapMeeting() {
+    return MeetingMapper.map(this.meetingEntity);
+  }
+
+  @Benchmark
+  public List<Attendee> mapAttendees() {
+    return this.attendeeEntities.stream().map(AttendeeMapper::map).collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public Set<String> mapMembersFromEntities() {
+    return GroupMemberMapper.map(this.groupMemberEntities, GroupMemberEntity.Role.MEMBER);
+  }
+
+  @Benchmark
+  public List<GroupMemberEntity> mapMembersToEntities() {
+    return GroupMemberMapper.map(1L, this.customerIdentifiers, GroupMemberEntity.Role.MEMBER);
+  }
+}
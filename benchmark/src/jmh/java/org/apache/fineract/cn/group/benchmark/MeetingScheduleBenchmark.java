@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.benchmark;
+
+import org.apache.fineract.cn.group.api.v1.domain.Cycle;
+import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.internal.repository.GroupDefinitionEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupEntity;
+import org.apache.fineract.cn.group.internal.repository.MeetingEntity;
+import org.apache.fineract.cn.group.internal.service.MeetingScheduler;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class MeetingScheduleBenchmark {
+
+  @Param({"WEEKLY", "MONTHLY"})
+  private String frequency;
+
+  @Param({"12", "52"})
+  private int numberOfMeetings;
+
+  @Param({"15", "60"})
+  private int numberOfMembers;
+
+  private GroupDefinitionEntity groupDefinitionEntity;
+  private GroupEntity groupEntity;
+  private Set<String> members;
+  private LocalDate startDate;
+  private LocalDateTime createdOn;
+
+  @Setup
+  public void setUp() {
+    this.groupDefinitionEntity = new GroupDefinitionEntity();
+    this.groupDefinitionEntity.setIdentifier("definition");
+    this.groupDefinitionEntity.setNumberOfMeetings(this.numberOfMeetings);
+    this.groupDefinitionEntity.setFrequency(this.frequency);
+    this.groupDefinitionEntity.setAdjustment(Cycle.Adjustment.NEXT_BUSINESS_DAY.name());
+
+    this.groupEntity = new GroupEntity();
+    this.groupEntity.setId(1L);
+    this.groupEntity.setIdentifier("group");
+    this.groupEntity.setGroupDefinition(this.groupDefinitionEntity);
+    this.groupEntity.setWeekday(Group.Weekday.WEDNESDAY.getValue());
+    this.groupEntity.setCurrentCycle(1);
+
+    this.members = new HashSet<>(this.numberOfMembers);
+    for (int i = 0; i < this.numberOfMembers; i++) {
+      this.members.add("customer" + i);
+    }
+    this.startDate = LocalDate.of(2018, 1, 1);
+    this.createdOn = LocalDateTime.of(2018, 1, 1, 0, 0);
+  }
+
+  @Benchmark
+  public List<MeetingEntity> schedule() {
+    return MeetingScheduler.schedule(this.groupDefinitionEntity, this.groupEntity, this.members,
+        this.startDate, "creator", this.createdOn);
+  }
+}
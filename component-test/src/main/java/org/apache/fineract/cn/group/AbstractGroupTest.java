@@ -24,6 +24,7 @@ import org.apache.fineract.cn.group.api.v1.EventConstants;
 import org.apache.fineract.cn.group.api.v1.client.GroupManager;
 import org.apache.fineract.cn.test.listener.EnableEventRecording;
 import org.apache.fineract.cn.test.listener.EventRecorder;
+import java.util.List;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -66,6 +67,16 @@ public class AbstractGroupTest extends SuiteTestEnvironment {
         userContext.close();
     }
 
+    // bulk events are recorded per group, see GroupEventListener
+    boolean waitForBulkEvent(final String event, final List<String> groupIdentifiers) throws InterruptedException {
+        for (final String groupIdentifier : groupIdentifiers) {
+            if (!this.eventRecorder.wait(event, groupIdentifier)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public boolean waitForInitialize() {
         try {
             return this.eventRecorder.wait(EventConstants.INITIALIZE, EventConstants.INITIALIZE);
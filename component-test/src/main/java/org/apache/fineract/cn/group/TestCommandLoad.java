@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group;
+
+import feign.FeignException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.fineract.cn.api.context.AutoUserContext;
+import org.apache.fineract.cn.group.api.v1.EventConstants;
+import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
+import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
+import org.apache.fineract.cn.group.util.GroupDefinitionGenerator;
+import org.apache.fineract.cn.group.util.GroupGenerator;
+import org.apache.fineract.cn.lang.AutoTenantContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+// run with -Dgroup.commands.virtualThreads=true and =false to compare the footprint of both thread modes
+public class TestCommandLoad extends AbstractGroupTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TestCommandLoad.class);
+  private static final int COMMANDS = Integer.getInteger("group.load.commands", 10000);
+  private static final int CLIENTS = Integer.getInteger("group.load.clients", 200);
+  private static final int BATCH_SIZE = 500;
+
+  @Value("${group.commands.virtualThreads:false}")
+  private boolean virtualThreads;
+
+  @Value("${group.commands.lanes:32}")
+  private int lanes;
+
+  @Test
+  public void shouldProcessConcurrentGroupCommands ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final List<Group> groups = IntStream.range(0, COMMANDS)
+        .mapToObj(index -> GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier()))
+        .collect(Collectors.toList());
+    for (int from = 0; from < groups.size(); from += BATCH_SIZE) {
+      final List<Group> batch = groups.subList(from, Math.min(from + BATCH_SIZE, groups.size()));
+      this.testSubject.createGroups(batch);
+      Assert.assertTrue(this.waitForBulkEvent(EventConstants.POST_GROUPS,
+          batch.stream().map(Group::getIdentifier).collect(Collectors.toList())));
+    }
+
+    final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    threadMXBean.resetPeakThreadCount();
+    final Runtime runtime = Runtime.getRuntime();
+    final long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+    final long[] latencies = new long[groups.size()];
+    final AtomicInteger rejections = new AtomicInteger();
+    final CountDownLatch start = new CountDownLatch(1);
+    final ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+    final List<Future<?>> calls = new ArrayList<>(groups.size());
+    for (int index = 0; index < groups.size(); index++) {
+      final int call = index;
+      calls.add(clients.submit(() -> {
+        start.await();
+        try (final AutoTenantContext ignoredTenant = new AutoTenantContext(tenantDataStoreContext.getTenantName());
+             final AutoUserContext ignoredUser = this.tenantApplicationSecurityEnvironment.createAutoUserContext(TEST_USER)) {
+          final long begin = System.nanoTime();
+          this.activate(groups.get(call).getIdentifier(), rejections);
+          latencies[call] = System.nanoTime() - begin;
+        }
+        return null;
+      }));
+    }
+
+    final long begin = System.nanoTime();
+    start.countDown();
+    for (final Future<?> call : calls) {
+      call.get();
+    }
+    clients.shutdown();
+    final long accepted = System.nanoTime() - begin;
+    for (final Group group : groups) {
+      Assert.assertTrue(this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, group.getIdentifier()));
+    }
+    final long processed = System.nanoTime() - begin;
+    final long platformLaneThreads = Thread.getAllStackTraces().keySet()
+        .stream()
+        .filter(thread -> thread.getName().startsWith("group-lane-"))
+        .count();
+
+    Arrays.sort(latencies);
+    LOGGER.info("{} concurrent commands on {} threads: accepted in {} ms, processed in {} ms, " +
+            "p50 {} ms, p99 {} ms, {} rejections, peak threads {}, heap growth {} MB, platform lane threads {}.",
+        groups.size(),
+        this.virtualThreads ? "virtual" : "platform",
+        TimeUnit.NANOSECONDS.toMillis(accepted),
+        TimeUnit.NANOSECONDS.toMillis(processed),
+        TimeUnit.NANOSECONDS.toMillis(latencies[latencies.length / 2]),
+        TimeUnit.NANOSECONDS.toMillis(latencies[latencies.length * 99 / 100]),
+        rejections.get(),
+        threadMXBean.getPeakThreadCount(),
+        (runtime.totalMemory() - runtime.freeMemory() - heapBefore) / (1024L * 1024L),
+        platformLaneThreads);
+
+    // the commands hash over every lane, virtual lanes never show up among the platform threads
+    Assert.assertEquals(this.virtualThreads ? 0L : (long) this.lanes, platformLaneThreads);
+  }
+
+  private void activate(final String identifier, final AtomicInteger rejections) throws InterruptedException {
+    final GroupCommand activate = new GroupCommand();
+    activate.setAction(GroupCommand.Action.ACTIVATE.name());
+    activate.setCreatedBy(TEST_USER);
+    activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    while (true) {
+      try {
+        this.testSubject.processGroupCommand(identifier, activate);
+        return;
+      } catch (final FeignException ex) {
+        if (ex.status() != 429) {
+          throw ex;
+        }
+        rejections.incrementAndGet();
+        TimeUnit.SECONDS.sleep(1L);
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group;
+
+import org.apache.fineract.cn.group.api.v1.EventConstants;
+import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
+import org.apache.fineract.cn.group.util.GroupDefinitionGenerator;
+
+import java.io.StringWriter;
+
+import com.codahale.metrics.MetricRegistry;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class TestCommandMetrics extends AbstractGroupTest {
+
+  @Autowired
+  private MetricRegistry metricRegistry;
+
+  @Autowired
+  private CollectorRegistry collectorRegistry;
+
+  @Test
+  public void shouldRecordCommandMetrics ( ) throws Exception {
+    final long countBefore =
+        this.metricRegistry.timer("group.command.CreateGroupDefinitionCommand.latency").getCount();
+
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier()));
+
+    Assert.assertEquals(countBefore + 1L,
+        this.metricRegistry.timer("group.command.CreateGroupDefinitionCommand.latency").getCount());
+    Assert.assertEquals(0L, this.metricRegistry.counter("group.command.CreateGroupDefinitionCommand.active").getCount());
+
+    final StringWriter writer = new StringWriter();
+    TextFormat.write004(writer, this.collectorRegistry.metricFamilySamples());
+    final String scrape = writer.toString();
+    Assert.assertTrue(scrape.contains("group_command_latency_count{command=\"CreateGroupDefinitionCommand\",}"));
+    Assert.assertTrue(scrape.contains("group_command_tenant_latency_count{"));
+  }
+}
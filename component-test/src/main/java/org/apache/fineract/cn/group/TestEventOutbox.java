@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group;
+
+import com.google.gson.Gson;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import javax.sql.DataSource;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.fineract.cn.group.api.v1.EventConstants;
+import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
+import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
+import org.apache.fineract.cn.group.internal.outbox.EventRelay;
+import org.apache.fineract.cn.group.util.GroupDefinitionGenerator;
+import org.apache.fineract.cn.group.util.GroupGenerator;
+import org.apache.fineract.cn.lang.AutoTenantContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class TestEventOutbox extends AbstractGroupTest {
+
+  @Autowired
+  private EventRelay eventRelay;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Test
+  public void shouldSweepEventsLeftInOutbox ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier()));
+
+    // left behind without an after-commit relay, only the sweep picks it up
+    final String groupIdentifier = RandomStringUtils.randomAlphanumeric(32);
+    try (final AutoTenantContext ignored = new AutoTenantContext(tenantDataStoreContext.getTenantName())) {
+      new JdbcTemplate(this.dataSource).update(
+          "INSERT INTO ptah_event_outbox (selector_value, payload, created_on) VALUES (?, ?, ?)",
+          EventConstants.POST_GROUP, new Gson().toJson(groupIdentifier),
+          Timestamp.valueOf(LocalDateTime.now(Clock.systemUTC())));
+    }
+
+    this.eventRelay.sweep();
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.POST_GROUP, groupIdentifier));
+  }
+
+  @Test
+  public void shouldRelayEventsFromOutbox ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier()));
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier()));
+
+    final GroupCommand activate = new GroupCommand();
+    activate.setAction(GroupCommand.Action.ACTIVATE.name());
+    activate.setNote("activate");
+    activate.setCreatedBy(TEST_USER);
+    activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    this.testSubject.processGroupCommand(randomGroup.getIdentifier(), activate);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, randomGroup.getIdentifier()));
+
+    try (final AutoTenantContext ignored = new AutoTenantContext(tenantDataStoreContext.getTenantName())) {
+      this.eventRelay.drain();
+      final Long pending = new JdbcTemplate(this.dataSource)
+          .queryForObject("SELECT COUNT(*) FROM ptah_event_outbox", Long.class);
+      Assert.assertEquals(Long.valueOf(0L), pending);
+    }
+  }
+}
@@ -19,27 +19,48 @@
 package org.apache.fineract.cn.group;
 
 import org.apache.fineract.cn.group.api.v1.EventConstants;
+import org.apache.fineract.cn.group.api.v1.client.CommandNotFoundException;
 import org.apache.fineract.cn.group.api.v1.client.GroupManager;
+import org.apache.fineract.cn.group.api.v1.client.GroupNotFoundException;
+import org.apache.fineract.cn.group.api.v1.client.GroupNotModifiedException;
+import org.apache.fineract.cn.group.api.v1.client.GroupValidationException;
+import org.apache.fineract.cn.group.api.v1.client.GroupVersionMismatchException;
 import org.apache.fineract.cn.group.api.v1.domain.AssignedEmployeeHolder;
 import org.apache.fineract.cn.group.api.v1.domain.Attendee;
+import org.apache.fineract.cn.group.api.v1.domain.CommandStatus;
+import org.apache.fineract.cn.group.api.v1.domain.Cycle;
 import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.api.v1.domain.GroupBatchResult;
 import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
 import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
+import org.apache.fineract.cn.group.api.v1.domain.GroupPage;
 import org.apache.fineract.cn.group.api.v1.domain.Meeting;
 import org.apache.fineract.cn.group.api.v1.domain.SignOffMeeting;
+import org.apache.fineract.cn.group.internal.tracking.CommandTracker;
 import org.apache.fineract.cn.group.util.GroupDefinitionGenerator;
 import org.apache.fineract.cn.group.util.GroupGenerator;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import javax.sql.DataSource;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.fineract.cn.anubis.test.v1.TenantApplicationSecurityEnvironmentTestRule;
 import org.apache.fineract.cn.api.context.AutoUserContext;
+import org.apache.fineract.cn.lang.AutoTenantContext;
 import org.apache.fineract.cn.test.env.TestEnvironment;
 import org.apache.fineract.cn.test.fixture.TenantDataStoreContextTestRule;
 import org.apache.fineract.cn.test.fixture.cassandra.CassandraInitializer;
@@ -65,10 +86,18 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit4.SpringRunner;
 
 public class TestGroup extends AbstractGroupTest {
 
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private CommandTracker commandTracker;
+
   @Test
   public void shouldCreateGroup ( ) throws Exception {
     final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
@@ -155,6 +184,57 @@ public class TestGroup extends AbstractGroupTest {
     this.eventRecorder.wait(EventConstants.PUT_GROUP, activatedGroup.getIdentifier());
   }
 
+  @Test
+  public void shouldSignOffMeetingsInBatch ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group firstGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    final Group secondGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    final List<SignOffMeeting> signOffMeetings = new ArrayList<>();
+    for (final Group group : Arrays.asList(firstGroup, secondGroup)) {
+      this.testSubject.createGroup(group);
+      this.eventRecorder.wait(EventConstants.POST_GROUP, group.getIdentifier());
+
+      final GroupCommand activate = new GroupCommand();
+      activate.setAction(GroupCommand.Action.ACTIVATE.name());
+      activate.setCreatedBy(TestGroup.TEST_USER);
+      activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+      this.testSubject.processGroupCommand(group.getIdentifier(), activate);
+      this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, group.getIdentifier());
+
+      final Meeting meeting = this.testSubject.fetchMeetings(group.getIdentifier(), Boolean.TRUE).get(0);
+      final SignOffMeeting signOffMeeting = new SignOffMeeting();
+      signOffMeeting.setGroupIdentifier(group.getIdentifier());
+      signOffMeeting.setCycle(meeting.getCurrentCycle());
+      signOffMeeting.setSequence(meeting.getMeetingSequence());
+      signOffMeeting.setDuration(90L);
+      signOffMeeting.setAttendees(meeting.getAttendees()
+          .stream()
+          .peek(attendee -> attendee.setStatus(Attendee.Status.ATTENDED.name()))
+          .collect(Collectors.toSet()));
+      signOffMeetings.add(signOffMeeting);
+    }
+
+    this.testSubject.signOffMeetings(signOffMeetings);
+    Assert.assertTrue(this.waitForBulkEvent(EventConstants.PUT_MEETINGS,
+        Arrays.asList(firstGroup.getIdentifier(), secondGroup.getIdentifier())));
+
+    for (final SignOffMeeting signOffMeeting : signOffMeetings) {
+      final Meeting signedOffMeeting = this.testSubject.fetchMeetings(signOffMeeting.getGroupIdentifier(), Boolean.FALSE)
+          .stream()
+          .filter(meeting -> meeting.getMeetingSequence().equals(signOffMeeting.getSequence()))
+          .findFirst()
+          .orElseThrow(AssertionError::new);
+      Assert.assertNotNull(signedOffMeeting.getHeldOn());
+      Assert.assertEquals(signOffMeeting.getDuration(), signedOffMeeting.getDuration());
+      Assert.assertTrue(signedOffMeeting.getAttendees()
+          .stream()
+          .allMatch(attendee -> Attendee.Status.ATTENDED.name().equals(attendee.getStatus())));
+    }
+  }
+
   @Test
   public void shouldUpdateLeaders ( ) throws Exception {
     final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
@@ -174,6 +254,144 @@ public class TestGroup extends AbstractGroupTest {
     Assert.assertEquals((currentLeadersSize + 1), fetchedGroup.getLeaders().size());
   }
 
+  @Test
+  public void shouldFetchNextUpcomingMeeting ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final GroupCommand activate = new GroupCommand();
+    activate.setAction(GroupCommand.Action.ACTIVATE.name());
+    activate.setCreatedBy(TestGroup.TEST_USER);
+    activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    this.testSubject.processGroupCommand(randomGroup.getIdentifier(), activate);
+    this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, randomGroup.getIdentifier());
+
+    final List<Meeting> upcomingMeetings = this.testSubject.fetchMeetings(randomGroup.getIdentifier(), Boolean.TRUE);
+    Assert.assertEquals(1, upcomingMeetings.size());
+    Assert.assertEquals(Integer.valueOf(1), upcomingMeetings.get(0).getMeetingSequence());
+    Assert.assertEquals(randomGroup.getMembers().size(), upcomingMeetings.get(0).getAttendees().size());
+
+    final List<Meeting> upcomingMeetingsWithoutAttendees =
+        this.testSubject.fetchMeetings(randomGroup.getIdentifier(), Boolean.TRUE, Boolean.FALSE);
+    Assert.assertEquals(1, upcomingMeetingsWithoutAttendees.size());
+    Assert.assertEquals(upcomingMeetings.get(0).getScheduledFor(), upcomingMeetingsWithoutAttendees.get(0).getScheduledFor());
+    Assert.assertNull(upcomingMeetingsWithoutAttendees.get(0).getAttendees());
+  }
+
+  @Test
+  public void shouldFetchMeetingsOfEmployee ( ) throws Exception {
+    final GroupDefinition eagerGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition(4);
+    this.testSubject.createGroupDefinition(eagerGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, eagerGroupDefinition.getIdentifier());
+
+    final GroupDefinition lazyGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition(4);
+    lazyGroupDefinition.getCycle().setSchedule(Cycle.Schedule.LAZY.name());
+    this.testSubject.createGroupDefinition(lazyGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, lazyGroupDefinition.getIdentifier());
+
+    final String employee = RandomStringUtils.randomAlphanumeric(32);
+    final List<Group> groups = new ArrayList<>();
+    for (final GroupDefinition groupDefinition : Arrays.asList(eagerGroupDefinition, lazyGroupDefinition)) {
+      final Group group = GroupGenerator.createRandomGroup(groupDefinition.getIdentifier());
+      group.setAssignedEmployee(employee);
+      this.testSubject.createGroup(group);
+      this.eventRecorder.wait(EventConstants.POST_GROUP, group.getIdentifier());
+
+      final GroupCommand activate = new GroupCommand();
+      activate.setAction(GroupCommand.Action.ACTIVATE.name());
+      activate.setCreatedBy(TestGroup.TEST_USER);
+      activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+      this.testSubject.processGroupCommand(group.getIdentifier(), activate);
+      this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, group.getIdentifier());
+      groups.add(group);
+    }
+
+    final LocalDate from = LocalDate.now(Clock.systemUTC());
+    final LocalDate to = from.plusWeeks(3L);
+    final List<Meeting> meetings = this.testSubject.fetchMeetingsByEmployee(employee, from.toString(), to.toString());
+    for (final Group group : groups) {
+      final List<String> expectedMeetings = this.testSubject.fetchMeetings(group.getIdentifier(), Boolean.FALSE)
+          .stream()
+          .map(Meeting::getScheduledFor)
+          .filter(scheduledFor -> {
+            final LocalDate scheduledDate = LocalDate.parse(scheduledFor.substring(0, 10));
+            return !scheduledDate.isBefore(from) && !scheduledDate.isAfter(to);
+          })
+          .sorted()
+          .collect(Collectors.toList());
+      Assert.assertFalse(expectedMeetings.isEmpty());
+      Assert.assertEquals(expectedMeetings, meetings.stream()
+          .filter(meeting -> meeting.getGroupIdentifier().equals(group.getIdentifier()))
+          .map(Meeting::getScheduledFor)
+          .collect(Collectors.toList()));
+    }
+    Assert.assertEquals(meetings.stream().map(Meeting::getScheduledFor).sorted().collect(Collectors.toList()),
+        meetings.stream().map(Meeting::getScheduledFor).collect(Collectors.toList()));
+
+    final List<Meeting> meetingsWithoutAttendees =
+        this.testSubject.fetchMeetingsByEmployee(employee, from.toString(), to.toString(), Boolean.FALSE);
+    Assert.assertEquals(meetings.stream().map(Meeting::getScheduledFor).collect(Collectors.toList()),
+        meetingsWithoutAttendees.stream().map(Meeting::getScheduledFor).collect(Collectors.toList()));
+    meetingsWithoutAttendees.forEach(meeting -> Assert.assertNull(meeting.getAttendees()));
+  }
+
+  @Test
+  public void shouldMaterializeLazyMeetingsOnSignOff ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition(3);
+    randomGroupDefinition.getCycle().setSchedule(Cycle.Schedule.LAZY.name());
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final GroupCommand activate = new GroupCommand();
+    activate.setAction(GroupCommand.Action.ACTIVATE.name());
+    activate.setCreatedBy(TestGroup.TEST_USER);
+    activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    this.testSubject.processGroupCommand(randomGroup.getIdentifier(), activate);
+    this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, randomGroup.getIdentifier());
+
+    final List<Meeting> scheduledMeetings = this.testSubject.fetchMeetings(randomGroup.getIdentifier(), Boolean.FALSE);
+    Assert.assertEquals(3, scheduledMeetings.size());
+    scheduledMeetings.forEach(meeting -> {
+      Assert.assertNull(meeting.getCreatedBy());
+      Assert.assertEquals(randomGroup.getMembers().size(), meeting.getAttendees().size());
+    });
+
+    final Meeting upcomingMeeting = this.testSubject.fetchMeetings(randomGroup.getIdentifier(), Boolean.TRUE).get(0);
+    Assert.assertEquals(Integer.valueOf(1), upcomingMeeting.getMeetingSequence());
+
+    final SignOffMeeting signOffMeeting = new SignOffMeeting();
+    signOffMeeting.setGroupIdentifier(randomGroup.getIdentifier());
+    signOffMeeting.setCycle(upcomingMeeting.getCurrentCycle());
+    signOffMeeting.setSequence(upcomingMeeting.getMeetingSequence());
+    signOffMeeting.setDuration(60L);
+    signOffMeeting.setAttendees(upcomingMeeting.getAttendees()
+        .stream()
+        .peek(attendee -> attendee.setStatus(Attendee.Status.ATTENDED.name()))
+        .collect(Collectors.toSet()));
+    this.testSubject.signOffMeetings(Collections.singletonList(signOffMeeting));
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.PUT_MEETINGS, randomGroup.getIdentifier()));
+
+    final List<Meeting> meetings = this.testSubject.fetchMeetings(randomGroup.getIdentifier(), Boolean.FALSE);
+    Assert.assertEquals(3, meetings.size());
+    final Meeting signedOffMeeting = meetings.stream()
+        .filter(meeting -> meeting.getMeetingSequence().equals(upcomingMeeting.getMeetingSequence()))
+        .findFirst()
+        .orElseThrow(IllegalStateException::new);
+    Assert.assertNotNull(signedOffMeeting.getHeldOn());
+    Assert.assertEquals(TestGroup.TEST_USER, signedOffMeeting.getCreatedBy());
+    signedOffMeeting.getAttendees()
+        .forEach(attendee -> Assert.assertEquals(Attendee.Status.ATTENDED.name(), attendee.getStatus()));
+  }
+
   @Test
   public void shouldUpdateMembers ( ) throws Exception {
     final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
@@ -196,6 +414,260 @@ public class TestGroup extends AbstractGroupTest {
     Assert.assertEquals((currentMembersSize + 2), fetchedGroup.getMembers().size());
   }
 
+  @Test
+  public void shouldAddAndRemoveMember ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final GroupCommand activate = new GroupCommand();
+    activate.setAction(GroupCommand.Action.ACTIVATE.name());
+    activate.setCreatedBy(TestGroup.TEST_USER);
+    activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    this.testSubject.processGroupCommand(randomGroup.getIdentifier(), activate);
+    this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, randomGroup.getIdentifier());
+
+    final String newMember = RandomStringUtils.randomAlphanumeric(32);
+    this.testSubject.addMember(randomGroup.getIdentifier(), newMember);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.PUT_GROUP, randomGroup.getIdentifier()));
+
+    final Group groupWithMember = this.testSubject.findGroup(randomGroup.getIdentifier());
+    Assert.assertEquals(randomGroup.getMembers().size() + 1, groupWithMember.getMembers().size());
+    Assert.assertTrue(groupWithMember.getMembers().contains(newMember));
+    this.testSubject.fetchMeetings(randomGroup.getIdentifier(), Boolean.TRUE)
+        .forEach(meeting -> Assert.assertTrue(meeting.getAttendees()
+            .stream()
+            .anyMatch(attendee -> attendee.getCustomerIdentifier().equals(newMember))));
+
+    this.testSubject.removeMember(randomGroup.getIdentifier(), newMember);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.PUT_GROUP, randomGroup.getIdentifier()));
+
+    final Group groupWithoutMember = this.testSubject.findGroup(randomGroup.getIdentifier());
+    Assert.assertEquals(randomGroup.getMembers().size(), groupWithoutMember.getMembers().size());
+    Assert.assertFalse(groupWithoutMember.getMembers().contains(newMember));
+    this.testSubject.fetchMeetings(randomGroup.getIdentifier(), Boolean.TRUE)
+        .forEach(meeting -> Assert.assertTrue(meeting.getAttendees()
+            .stream()
+            .noneMatch(attendee -> attendee.getCustomerIdentifier().equals(newMember))));
+  }
+
+  @Test
+  public void shouldApplyCommandsOfGroupInOrder ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final String transientMember = RandomStringUtils.randomAlphanumeric(32);
+    final String lastMember = RandomStringUtils.randomAlphanumeric(32);
+    this.testSubject.addMember(randomGroup.getIdentifier(), transientMember);
+    this.testSubject.removeMember(randomGroup.getIdentifier(), transientMember);
+    this.testSubject.addMember(randomGroup.getIdentifier(), lastMember);
+
+    // queued behind the member changes on the same lane, so its event follows all of them
+    final GroupCommand activate = new GroupCommand();
+    activate.setAction(GroupCommand.Action.ACTIVATE.name());
+    activate.setCreatedBy(TestGroup.TEST_USER);
+    activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    this.testSubject.processGroupCommand(randomGroup.getIdentifier(), activate);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, randomGroup.getIdentifier()));
+
+    final Group fetchedGroup = this.testSubject.findGroup(randomGroup.getIdentifier());
+    Assert.assertTrue(fetchedGroup.getMembers().contains(lastMember));
+    Assert.assertFalse(fetchedGroup.getMembers().contains(transientMember));
+    Assert.assertEquals(randomGroup.getMembers().size() + 1, fetchedGroup.getMembers().size());
+  }
+
+  @Test
+  public void shouldFetchGroupChanges ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final String since = ZonedDateTime.now(Clock.systemUTC()).minusSeconds(1L).format(DateTimeFormatter.ISO_ZONED_DATE_TIME);
+    final Group firstGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    final Group secondGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    for (final Group group : Arrays.asList(firstGroup, secondGroup)) {
+      this.testSubject.createGroup(group);
+      this.eventRecorder.wait(EventConstants.POST_GROUP, group.getIdentifier());
+    }
+
+    final List<String> changedGroups = new ArrayList<>();
+    GroupPage changes = this.testSubject.fetchGroupChanges(since, null, 1);
+    String cursor = null;
+    while (!changes.getGroups().isEmpty()) {
+      Assert.assertEquals(1, changes.getGroups().size());
+      changedGroups.add(changes.getGroups().get(0).getIdentifier());
+      cursor = changes.getNextCursor();
+      changes = this.testSubject.fetchGroupChanges(null, cursor, 1);
+    }
+    Assert.assertTrue(changedGroups.containsAll(Arrays.asList(firstGroup.getIdentifier(), secondGroup.getIdentifier())));
+    Assert.assertEquals(cursor, changes.getNextCursor());
+
+    final String newMember = RandomStringUtils.randomAlphanumeric(32);
+    this.testSubject.addMember(firstGroup.getIdentifier(), newMember);
+    this.eventRecorder.wait(EventConstants.PUT_GROUP, firstGroup.getIdentifier());
+
+    final GroupPage delta = this.testSubject.fetchGroupChanges(null, cursor, 20);
+    Assert.assertEquals(1, delta.getGroups().size());
+    Assert.assertEquals(firstGroup.getIdentifier(), delta.getGroups().get(0).getIdentifier());
+    Assert.assertTrue(delta.getGroups().get(0).getMembers().contains(newMember));
+  }
+
+  @Test
+  public void shouldNotSkipGroupChangesCommittedLate ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final String since = ZonedDateTime.now(Clock.systemUTC()).minusSeconds(1L).format(DateTimeFormatter.ISO_ZONED_DATE_TIME);
+    final Group lateGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    final Group earlyGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    for (final Group group : Arrays.asList(lateGroup, earlyGroup)) {
+      this.testSubject.createGroup(group);
+      this.eventRecorder.wait(EventConstants.POST_GROUP, group.getIdentifier());
+    }
+    String cursor = this.testSubject.fetchGroupChanges(since, null, 20).getNextCursor();
+
+    try (final AutoTenantContext ignored = new AutoTenantContext(tenantDataStoreContext.getTenantName());
+         final Connection connection = this.dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try (final PreparedStatement statement =
+               connection.prepareStatement("UPDATE ptah_groups SET a_name = 'late' WHERE identifier = ?")) {
+        statement.setString(1, lateGroup.getIdentifier());
+        statement.executeUpdate();
+      }
+
+      // the late change started first, so nothing committed after it may pass the cursor before it commits
+      this.testSubject.addMember(earlyGroup.getIdentifier(), RandomStringUtils.randomAlphanumeric(32));
+      Assert.assertTrue(this.eventRecorder.wait(EventConstants.PUT_GROUP, earlyGroup.getIdentifier()));
+      final GroupPage heldBack = this.testSubject.fetchGroupChanges(null, cursor, 20);
+      Assert.assertTrue(heldBack.getGroups().isEmpty());
+      Assert.assertEquals(cursor, heldBack.getNextCursor());
+
+      connection.commit();
+    }
+
+    final GroupPage changes = this.testSubject.fetchGroupChanges(null, cursor, 20);
+    Assert.assertEquals(Arrays.asList(lateGroup.getIdentifier(), earlyGroup.getIdentifier()),
+        changes.getGroups().stream().map(Group::getIdentifier).collect(Collectors.toList()));
+    Assert.assertEquals("late", changes.getGroups().get(0).getName());
+  }
+
+  @Test
+  public void shouldFindGroupsByMember ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final Group anotherGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(anotherGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, anotherGroup.getIdentifier());
+
+    final String member = randomGroup.getMembers().iterator().next();
+    final GroupPage groupPage = this.testSubject.fetchGroupsByMember(member, 0, 10, null, null);
+    Assert.assertEquals(Long.valueOf(1L), groupPage.getTotalElements());
+    final Group fetchedGroup = groupPage.getGroups().get(0);
+    Assert.assertEquals(randomGroup.getIdentifier(), fetchedGroup.getIdentifier());
+    Assert.assertEquals(randomGroup.getMembers(), fetchedGroup.getMembers());
+    Assert.assertEquals(randomGroup.getLeaders(), fetchedGroup.getLeaders());
+  }
+
+  @Test
+  public void shouldFetchGroupsAfterCursor ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final String employee = "employee" + RandomStringUtils.randomAlphanumeric(8);
+    for (int i = 0; i < 3; i++) {
+      final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+      randomGroup.setAssignedEmployee(employee);
+      this.testSubject.createGroup(randomGroup);
+      this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+    }
+
+    final GroupPage firstPage = this.testSubject.fetchGroupsAfter(employee, "", 2);
+    Assert.assertEquals(2, firstPage.getGroups().size());
+    Assert.assertNull(firstPage.getTotalElements());
+    Assert.assertEquals(firstPage.getGroups().get(1).getIdentifier(), firstPage.getNextCursor());
+
+    final GroupPage lastPage = this.testSubject.fetchGroupsAfter(employee, firstPage.getNextCursor(), 2);
+    Assert.assertEquals(1, lastPage.getGroups().size());
+    Assert.assertNull(lastPage.getNextCursor());
+  }
+
+  @Test
+  public void shouldCreateGroupsInBatch ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group existingGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(existingGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, existingGroup.getIdentifier());
+
+    final Group firstGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    final Group secondGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    final Group invalidGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    invalidGroup.setName(null);
+    final Group unknownDefinitionGroup = GroupGenerator.createRandomGroup(RandomStringUtils.randomAlphanumeric(32));
+
+    final List<GroupBatchResult> results = this.testSubject.createGroups(
+        Arrays.asList(firstGroup, existingGroup, invalidGroup, unknownDefinitionGroup, secondGroup, firstGroup));
+    Assert.assertEquals(
+        Arrays.asList(
+            GroupBatchResult.Status.ACCEPTED.name(),
+            GroupBatchResult.Status.CONFLICT.name(),
+            GroupBatchResult.Status.INVALID.name(),
+            GroupBatchResult.Status.NOT_FOUND.name(),
+            GroupBatchResult.Status.ACCEPTED.name(),
+            GroupBatchResult.Status.CONFLICT.name()),
+        results.stream().map(GroupBatchResult::getStatus).collect(Collectors.toList()));
+
+    Assert.assertTrue(this.waitForBulkEvent(EventConstants.POST_GROUPS,
+        Arrays.asList(firstGroup.getIdentifier(), secondGroup.getIdentifier())));
+
+    final Group fetchedGroup = this.testSubject.findGroup(secondGroup.getIdentifier());
+    Assert.assertEquals(secondGroup.getName(), fetchedGroup.getName());
+    Assert.assertEquals(Group.Status.PENDING.name(), fetchedGroup.getStatus());
+    Assert.assertEquals(secondGroup.getMembers(), fetchedGroup.getMembers());
+    Assert.assertEquals(secondGroup.getLeaders(), fetchedGroup.getLeaders());
+    Assert.assertEquals(secondGroup.getAddress().getStreet(), fetchedGroup.getAddress().getStreet());
+  }
+
+  @Test(expected = GroupValidationException.class)
+  public void shouldRejectOversizedGroupBatch ( ) throws Exception {
+    final String groupDefinitionIdentifier = RandomStringUtils.randomAlphanumeric(32);
+    final List<Group> groups = new ArrayList<>();
+    for (int index = 0; index <= 1000; index++) {
+      groups.add(GroupGenerator.createRandomGroup(groupDefinitionIdentifier));
+    }
+    this.testSubject.createGroups(groups);
+  }
+
+  @Test(expected = GroupNotFoundException.class)
+  public void shouldNotUpdateMembersOfUnknownGroup ( ) throws Exception {
+    this.testSubject.updateMembers(RandomStringUtils.randomAlphanumeric(32),
+        new HashSet<>(Arrays.asList("member1", "member2")));
+  }
+
+  @Test(expected = GroupNotFoundException.class)
+  public void shouldNotFetchMeetingsOfUnknownGroup ( ) throws Exception {
+    this.testSubject.fetchMeetings(RandomStringUtils.randomAlphanumeric(32), Boolean.FALSE);
+  }
+
   @Test
   public void shouldUpdateAssignedEmployee ( ) throws Exception {
     final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
@@ -228,6 +700,8 @@ public class TestGroup extends AbstractGroupTest {
     this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
 
     randomGroup.setName(RandomStringUtils.randomAlphanumeric(256));
+    randomGroup.getAddress().setStreet(RandomStringUtils.randomAlphanumeric(256));
+    randomGroup.setAssignedEmployee(RandomStringUtils.randomAlphanumeric(32));
 
     this.testSubject.updateGroup(randomGroup.getIdentifier(), randomGroup);
 
@@ -235,5 +709,152 @@ public class TestGroup extends AbstractGroupTest {
 
     final Group updatedGroup = this.testSubject.findGroup(randomGroup.getIdentifier());
     Assert.assertEquals(randomGroup.getName(), updatedGroup.getName());
+    Assert.assertEquals(randomGroup.getAddress().getStreet(), updatedGroup.getAddress().getStreet());
+    Assert.assertEquals(randomGroup.getAssignedEmployee(), updatedGroup.getAssignedEmployee());
+    Assert.assertEquals(randomGroup.getMembers(), updatedGroup.getMembers());
+  }
+
+  @Test
+  public void shouldUpdateGroupOnlyIfVersionMatches ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final String entityTag = this.testSubject.fetchGroup(randomGroup.getIdentifier()).getHeaders().getETag();
+    Assert.assertNotNull(entityTag);
+
+    randomGroup.setName(RandomStringUtils.randomAlphanumeric(256));
+    this.testSubject.updateGroupIfMatch(randomGroup.getIdentifier(), entityTag, randomGroup);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.PUT_GROUP, randomGroup.getIdentifier()));
+
+    final ResponseEntity<Group> updatedGroup = this.testSubject.fetchGroup(randomGroup.getIdentifier());
+    Assert.assertEquals(randomGroup.getName(), updatedGroup.getBody().getName());
+    Assert.assertNotEquals(entityTag, updatedGroup.getHeaders().getETag());
+
+    try {
+      this.testSubject.updateGroupIfMatch(randomGroup.getIdentifier(), entityTag, randomGroup);
+      Assert.fail("Update with a stale entity tag must be rejected.");
+    } catch (final GroupVersionMismatchException ignored) {
+    }
+  }
+
+  @Test
+  public void shouldRejectUpdateOfMemberChangedGroupWithStaleVersion ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final String entityTag = this.testSubject.fetchGroup(randomGroup.getIdentifier()).getHeaders().getETag();
+    this.testSubject.addMember(randomGroup.getIdentifier(), RandomStringUtils.randomAlphanumeric(32));
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.PUT_GROUP, randomGroup.getIdentifier()));
+
+    try {
+      this.testSubject.updateGroupIfMatch(randomGroup.getIdentifier(), entityTag, randomGroup);
+      Assert.fail("Member changes must invalidate the entity tag.");
+    } catch (final GroupVersionMismatchException ignored) {
+    }
+  }
+
+  @Test(expected = GroupValidationException.class)
+  public void shouldNotUpdateGroupWithMismatchingIdentifier ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final Group otherGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.updateGroup(randomGroup.getIdentifier(), otherGroup);
+  }
+
+  @Test
+  public void shouldReportCommandStatus ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    final ResponseEntity<Void> accepted = this.testSubject.createGroupTracked(randomGroup);
+    Assert.assertNotNull(accepted.getHeaders().getLocation());
+    final String location = accepted.getHeaders().getLocation().getPath();
+    final String commandIdentifier = location.substring(location.lastIndexOf('/') + 1);
+    // the status commits with the group, so it is processed by the time the event arrives
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier()));
+
+    final CommandStatus commandStatus = this.testSubject.fetchCommandStatus(commandIdentifier);
+    Assert.assertEquals(CommandStatus.State.PROCESSED.name(), commandStatus.getState());
+    Assert.assertEquals("CreateGroupCommand", commandStatus.getCommand());
+    Assert.assertNotNull(commandStatus.getCompletedOn());
+
+    try {
+      this.testSubject.fetchCommandStatus(UUID.randomUUID().toString());
+      Assert.fail("Unknown command must not be found.");
+    } catch (final CommandNotFoundException ignored) {
+    }
+  }
+
+  @Test
+  public void shouldPurgeExpiredCommandStatus ( ) throws Exception {
+    // statuses are purged for the tenants commands were tracked of
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final String commandIdentifier = UUID.randomUUID().toString();
+    try (final AutoTenantContext ignored = new AutoTenantContext(tenantDataStoreContext.getTenantName())) {
+      new JdbcTemplate(this.dataSource).update("INSERT INTO ptah_command_status "
+              + "(identifier, command, state, created_by, created_on, completed_on) VALUES (?, ?, ?, ?, ?, ?)",
+          commandIdentifier, "CreateGroupCommand", CommandStatus.State.PROCESSED.name(), TEST_USER,
+          Timestamp.valueOf(LocalDateTime.now(Clock.systemUTC()).minusDays(30L)),
+          Timestamp.valueOf(LocalDateTime.now(Clock.systemUTC()).minusDays(30L)));
+    }
+    Assert.assertEquals(CommandStatus.State.PROCESSED.name(),
+        this.testSubject.fetchCommandStatus(commandIdentifier).getState());
+
+    this.commandTracker.purge();
+
+    try {
+      this.testSubject.fetchCommandStatus(commandIdentifier);
+      Assert.fail("Expired command status must be purged.");
+    } catch (final CommandNotFoundException ignored) {
+    }
+  }
+
+  @Test
+  public void shouldAnswerConditionalFetchOfGroup ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition();
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final String entityTag = this.testSubject.fetchGroup(randomGroup.getIdentifier()).getHeaders().getETag();
+    Assert.assertNotNull(entityTag);
+    try {
+      this.testSubject.fetchGroupIfNoneMatch(randomGroup.getIdentifier(), entityTag);
+      Assert.fail("Unchanged group must not be sent again.");
+    } catch (final GroupNotModifiedException ignored) {
+    }
+
+    final String newMember = RandomStringUtils.randomAlphanumeric(32);
+    this.testSubject.addMember(randomGroup.getIdentifier(), newMember);
+    Assert.assertTrue(this.eventRecorder.wait(EventConstants.PUT_GROUP, randomGroup.getIdentifier()));
+
+    final ResponseEntity<Group> changedGroup = this.testSubject.fetchGroupIfNoneMatch(randomGroup.getIdentifier(), entityTag);
+    Assert.assertNotEquals(entityTag, changedGroup.getHeaders().getETag());
+    Assert.assertTrue(changedGroup.getBody().getMembers().contains(newMember));
+    Assert.assertTrue(this.testSubject.findGroup(randomGroup.getIdentifier()).getMembers().contains(newMember));
   }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.apache.fineract.cn.group.api.v1.EventConstants;
+import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
+import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
+import org.apache.fineract.cn.group.internal.repository.GroupExporter;
+import org.apache.fineract.cn.group.util.GroupDefinitionGenerator;
+import org.apache.fineract.cn.group.util.GroupGenerator;
+import org.apache.fineract.cn.lang.AutoTenantContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class TestGroupExport extends AbstractGroupTest {
+
+  @Autowired
+  private GroupExporter groupExporter;
+
+  @Test
+  public void shouldExportGroupsCommandsMeetingsAndAttendees ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition(2);
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier());
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    final GroupCommand activate = new GroupCommand();
+    activate.setAction(GroupCommand.Action.ACTIVATE.name());
+    activate.setNote("activate");
+    activate.setCreatedBy(TEST_USER);
+    activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    this.testSubject.processGroupCommand(randomGroup.getIdentifier(), activate);
+    this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, randomGroup.getIdentifier());
+
+    try (final AutoTenantContext ignored = new AutoTenantContext(tenantDataStoreContext.getTenantName())) {
+      final List<JsonObject> groups = this.exportOf(this.groupExporter::exportGroups, randomGroup.getIdentifier(), "identifier");
+      Assert.assertEquals(1, groups.size());
+      final Group exportedGroup = new Gson().fromJson(groups.get(0), Group.class);
+      Assert.assertEquals(randomGroup.getMembers(), exportedGroup.getMembers());
+      Assert.assertEquals(randomGroup.getLeaders(), exportedGroup.getLeaders());
+      Assert.assertEquals(randomGroup.getAddress().getStreet(), exportedGroup.getAddress().getStreet());
+
+      final List<JsonObject> commands = this.exportOf(this.groupExporter::exportCommands, randomGroup.getIdentifier(), "groupIdentifier");
+      Assert.assertEquals(1, commands.size());
+      Assert.assertEquals(GroupCommand.Action.ACTIVATE.name(), commands.get(0).get("action").getAsString());
+
+      final List<JsonObject> meetings = this.exportOf(this.groupExporter::exportMeetings, randomGroup.getIdentifier(), "groupIdentifier");
+      Assert.assertEquals(2, meetings.size());
+
+      final List<JsonObject> attendees = this.exportOf(this.groupExporter::exportAttendees, randomGroup.getIdentifier(), "groupIdentifier");
+      Assert.assertEquals(2 * randomGroup.getMembers().size(), attendees.size());
+    }
+  }
+
+  private List<JsonObject> exportOf(final Consumer<Writer> exporter,
+                                    final String groupIdentifier, final String key) {
+    final StringWriter writer = new StringWriter();
+    exporter.accept(writer);
+    final Gson gson = new Gson();
+    return Arrays.stream(writer.toString().split("\n"))
+        .filter(line -> !line.isEmpty())
+        .map(line -> gson.fromJson(line, JsonObject.class))
+        .filter(line -> groupIdentifier.equals(line.get(key).getAsString()))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group;
+
+import org.apache.fineract.cn.group.api.v1.EventConstants;
+import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
+import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
+import org.apache.fineract.cn.group.api.v1.domain.Meeting;
+import org.apache.fineract.cn.group.util.GroupDefinitionGenerator;
+import org.apache.fineract.cn.group.util.GroupGenerator;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManagerFactory;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class TestMeetingSchedule extends AbstractGroupTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TestMeetingSchedule.class);
+
+  private static final int NUMBER_OF_MEETINGS = 52;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  public void shouldActivateGroupsOfGrowingSize ( ) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition(NUMBER_OF_MEETINGS);
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    for (final int numberOfMembers : new int[]{1, 15, 30, 60}) {
+      final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier(), numberOfMembers);
+      this.testSubject.createGroup(randomGroup);
+      this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+      final long start = System.nanoTime();
+      this.testSubject.processGroupCommand(randomGroup.getIdentifier(), this.createActivateCommand());
+      Assert.assertTrue(this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, randomGroup.getIdentifier()));
+      final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      LOGGER.info("Activated group with {} members and {} meetings in {} ms.",
+          numberOfMembers, NUMBER_OF_MEETINGS, elapsed);
+
+      final List<Meeting> meetings = this.testSubject.fetchMeetings(randomGroup.getIdentifier(), Boolean.FALSE);
+      Assert.assertEquals(NUMBER_OF_MEETINGS, meetings.size());
+      meetings.forEach(meeting -> Assert.assertEquals(numberOfMembers, meeting.getAttendees().size()));
+    }
+  }
+
+  @Test
+  public void shouldFetchMeetingsWithBoundedStatementCount ( ) throws Exception {
+    final Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    try {
+      final long fewMeetingsStatements = this.countStatementsFetchingMeetings(5, statistics);
+      final long manyMeetingsStatements = this.countStatementsFetchingMeetings(NUMBER_OF_MEETINGS, statistics);
+
+      LOGGER.info("Fetching 5 meetings took {} statements, fetching {} meetings took {} statements.",
+          fewMeetingsStatements, NUMBER_OF_MEETINGS, manyMeetingsStatements);
+
+      Assert.assertEquals(fewMeetingsStatements, manyMeetingsStatements);
+      Assert.assertTrue(manyMeetingsStatements <= 10L);
+    } finally {
+      statistics.setStatisticsEnabled(false);
+    }
+  }
+
+  private long countStatementsFetchingMeetings(final int numberOfMeetings, final Statistics statistics) throws Exception {
+    final GroupDefinition randomGroupDefinition = GroupDefinitionGenerator.createRandomGroupDefinition(numberOfMeetings);
+    this.testSubject.createGroupDefinition(randomGroupDefinition);
+    this.eventRecorder.wait(EventConstants.POST_GROUP_DEFINITION, randomGroupDefinition.getIdentifier());
+
+    final Group randomGroup = GroupGenerator.createRandomGroup(randomGroupDefinition.getIdentifier(), 10);
+    this.testSubject.createGroup(randomGroup);
+    this.eventRecorder.wait(EventConstants.POST_GROUP, randomGroup.getIdentifier());
+
+    this.testSubject.processGroupCommand(randomGroup.getIdentifier(), this.createActivateCommand());
+    this.eventRecorder.wait(EventConstants.ACTIVATE_GROUP, randomGroup.getIdentifier());
+
+    statistics.clear();
+    final List<Meeting> meetings = this.testSubject.fetchMeetings(randomGroup.getIdentifier(), Boolean.FALSE);
+    final long statementCount = statistics.getPrepareStatementCount();
+
+    Assert.assertEquals(numberOfMeetings, meetings.size());
+    meetings.forEach(meeting -> Assert.assertEquals(10, meeting.getAttendees().size()));
+    return statementCount;
+  }
+
+  private GroupCommand createActivateCommand() {
+    final GroupCommand activate = new GroupCommand();
+    activate.setAction(GroupCommand.Action.ACTIVATE.name());
+    activate.setNote(RandomStringUtils.randomAlphanumeric(256));
+    activate.setCreatedBy(TEST_USER);
+    activate.setCreatedOn(ZonedDateTime.now(Clock.systemUTC()).format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    return activate;
+  }
+}
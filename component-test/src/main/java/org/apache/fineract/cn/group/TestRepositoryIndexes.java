@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.apache.fineract.cn.lang.AutoTenantContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class TestRepositoryIndexes extends AbstractGroupTest {
+
+  private static final Map<String, String> REPOSITORY_QUERIES = new LinkedHashMap<>();
+
+  static {
+    REPOSITORY_QUERIES.put("GroupRepository.findByAssignedEmployee",
+        "SELECT * FROM ptah_groups WHERE assigned_employee = 'employee' ORDER BY identifier");
+    REPOSITORY_QUERIES.put("GroupRepository.findByAssignedEmployeeAndIdentifierGreaterThan",
+        "SELECT * FROM ptah_groups WHERE assigned_employee = 'employee' AND identifier > 'group' ORDER BY identifier LIMIT 21");
+    REPOSITORY_QUERIES.put("GroupRepository.findByMember",
+        "SELECT g.* FROM ptah_groups g, ptah_group_members m WHERE m.group_id = g.id AND m.customer_identifier = 'customer' AND m.a_role = 'MEMBER'");
+    REPOSITORY_QUERIES.put("GroupRepository.findChangedAfter",
+        "SELECT * FROM ptah_groups g WHERE (g.change_txid, g.identifier) > (1, '') AND g.change_txid < txid_snapshot_xmin(txid_current_snapshot()) ORDER BY g.change_txid, g.identifier LIMIT 20");
+    REPOSITORY_QUERIES.put("GroupRepository.findFirstChangeTxidSince",
+        "SELECT MIN(g.change_txid) FROM ptah_groups g WHERE COALESCE(g.last_modified_on, g.created_on) >= '2018-01-01 00:00:00'");
+    REPOSITORY_QUERIES.put("GroupMemberRepository.findByGroupIdAndRole",
+        "SELECT * FROM ptah_group_members WHERE group_id = 1 AND a_role = 'MEMBER'");
+    REPOSITORY_QUERIES.put("GroupCommandRepository.findByGroup",
+        "SELECT * FROM ptah_group_commands WHERE group_id = 1");
+    REPOSITORY_QUERIES.put("MeetingRepository.findFirstByGroupEntityAndScheduledForAfterOrderByScheduledForAsc",
+        "SELECT * FROM ptah_meetings WHERE group_id = 1 AND scheduled_for > '2018-01-01' ORDER BY scheduled_for ASC LIMIT 1");
+    REPOSITORY_QUERIES.put("MeetingRepository.streamByAssignedEmployeeAndScheduledForBetween",
+        "SELECT m.* FROM ptah_meetings m JOIN ptah_groups g ON g.id = m.group_id WHERE g.assigned_employee = 'employee' AND m.scheduled_for BETWEEN '2018-01-01' AND '2018-01-31' ORDER BY m.scheduled_for, g.identifier");
+    REPOSITORY_QUERIES.put("MeetingRepository.findByGroupEntityAndCurrentCycleOrderByMeetingSequenceDesc",
+        "SELECT * FROM ptah_meetings WHERE group_id = 1 AND current_cycle = 1 ORDER BY meeting_sequence DESC");
+    REPOSITORY_QUERIES.put("MeetingRepository.findByGroupEntityOrderByCurrentCycleDescMeetingSequenceDesc",
+        "SELECT * FROM ptah_meetings WHERE group_id = 1 ORDER BY current_cycle DESC, meeting_sequence DESC");
+    REPOSITORY_QUERIES.put("MeetingRepository.findByGroupEntityAndCurrentCycleAndMeetingSequence",
+        "SELECT * FROM ptah_meetings WHERE group_id = 1 AND current_cycle = 1 AND meeting_sequence = 1");
+    REPOSITORY_QUERIES.put("AttendeeRepository.findByMeeting",
+        "SELECT * FROM ptah_attendees WHERE meeting_id = 1");
+  }
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Test
+  public void shouldUseIndexForRepositoryQueries ( ) throws Exception {
+    try (final AutoTenantContext ignored = new AutoTenantContext(tenantDataStoreContext.getTenantName())) {
+      final JdbcTemplate jdbcTemplate = new JdbcTemplate(this.dataSource);
+      jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+        try (final Statement statement = connection.createStatement()) {
+          // the test tables are tiny, so the planner would prefer sequential scans even where an index exists
+          statement.execute("SET enable_seqscan = off");
+          try {
+            for (final Map.Entry<String, String> query : REPOSITORY_QUERIES.entrySet()) {
+              final List<String> plan = new ArrayList<>();
+              try (final ResultSet resultSet = statement.executeQuery("EXPLAIN " + query.getValue())) {
+                while (resultSet.next()) {
+                  plan.add(resultSet.getString(1));
+                }
+              }
+              Assert.assertTrue(query.getKey() + " does not use an index: " + plan,
+                  plan.stream().noneMatch(line -> line.contains("Seq Scan")));
+            }
+          } finally {
+            statement.execute("RESET enable_seqscan");
+          }
+        }
+        return null;
+      });
+    }
+  }
+}
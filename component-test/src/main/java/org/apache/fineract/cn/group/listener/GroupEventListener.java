@@ -18,6 +18,8 @@
  */
 package org.apache.fineract.cn.group.listener;
 
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import org.apache.fineract.cn.group.api.v1.EventConstants;
 import org.apache.fineract.cn.lang.config.TenantHeaderFilter;
 import org.apache.fineract.cn.test.listener.EventRecorder;
@@ -26,16 +28,20 @@ import org.springframework.jms.annotation.JmsListener;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @SuppressWarnings("unused")
 @Component
 public class GroupEventListener {
 
   private final EventRecorder eventRecorder;
+  private final Gson gson;
 
   @Autowired
   public GroupEventListener(final EventRecorder eventRecorder) {
     super();
     this.eventRecorder = eventRecorder;
+    this.gson = new Gson();
   }
 
   @JmsListener(
@@ -48,6 +54,16 @@ public class GroupEventListener {
     this.eventRecorder.event(tenant, EventConstants.POST_GROUP, payload, String.class);
   }
 
+  @JmsListener(
+      subscription = EventConstants.DESTINATION,
+      destination = EventConstants.DESTINATION,
+      selector = EventConstants.SELECTOR_POST_GROUPS
+  )
+  public void onGroupsCreated(@Header(TenantHeaderFilter.TENANT_HEADER) final String tenant,
+                              final String payload) {
+    this.recordEach(tenant, EventConstants.POST_GROUPS, payload);
+  }
+
   @JmsListener(
       subscription = EventConstants.DESTINATION,
       destination = EventConstants.DESTINATION,
@@ -67,4 +83,21 @@ public class GroupEventListener {
                                final String payload) {
     this.eventRecorder.event(tenant, EventConstants.PUT_GROUP, payload, String.class);
   }
+
+  @JmsListener(
+      subscription = EventConstants.DESTINATION,
+      destination = EventConstants.DESTINATION,
+      selector = EventConstants.SELECTOR_PUT_MEETINGS
+  )
+  public void onMeetingsSignedOff(@Header(TenantHeaderFilter.TENANT_HEADER) final String tenant,
+                                  final String payload) {
+    this.recordEach(tenant, EventConstants.PUT_MEETINGS, payload);
+  }
+
+  // a bulk change may be reported in several events, so every group of it is recorded on its own
+  private void recordEach(final String tenant, final String operation, final String payload) {
+    final List<String> identifiers = this.gson.fromJson(payload, new TypeToken<List<String>>() { }.getType());
+    identifiers.forEach(identifier ->
+        this.eventRecorder.event(tenant, operation, this.gson.toJson(identifier), String.class));
+  }
 }
@@ -41,4 +41,11 @@ public class GroupDefinitionGenerator {
     groupDefinition.setCycle(cycle);
     return groupDefinition;
   }
+
+  public static GroupDefinition createRandomGroupDefinition(final int numberOfMeetings) {
+    final GroupDefinition groupDefinition = createRandomGroupDefinition();
+    groupDefinition.setMaximalSize(60);
+    groupDefinition.getCycle().setNumberOfMeetings(numberOfMeetings);
+    return groupDefinition;
+  }
 }
@@ -24,6 +24,8 @@ import org.apache.commons.lang3.RandomStringUtils;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class GroupGenerator {
 
@@ -55,4 +57,12 @@ public class GroupGenerator {
     group.setAddress(address);
     return group;
   }
-}
\ No newline at end of file
+
+  public static Group createRandomGroup(final String definitionIdentifier, final int numberOfMembers) {
+    final Group group = createRandomGroup(definitionIdentifier);
+    group.setMembers(IntStream.range(0, numberOfMembers)
+            .mapToObj(i -> "Member" + i + RandomStringUtils.randomAlphanumeric(3))
+            .collect(Collectors.toSet()));
+    return group;
+  }
+}
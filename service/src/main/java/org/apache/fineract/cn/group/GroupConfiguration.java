@@ -18,6 +18,16 @@
  */
 package org.apache.fineract.cn.group;
 
+import com.codahale.metrics.JmxReporter;
+import com.codahale.metrics.MetricRegistry;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.dropwizard.DropwizardExports;
+import io.prometheus.client.dropwizard.samplebuilder.CustomMappingSampleBuilder;
+import io.prometheus.client.dropwizard.samplebuilder.MapperConfig;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fineract.cn.group.internal.metrics.CommandMetricsAspect;
 import org.apache.fineract.cn.anubis.config.EnableAnubis;
 import org.apache.fineract.cn.async.config.EnableAsync;
 import org.apache.fineract.cn.cassandra.config.EnableCassandra;
@@ -33,6 +43,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
 
@@ -46,11 +57,16 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter
 @EnableCommandProcessing
 @EnableAnubis
 @EnableServiceException
+@EnableScheduling
 @ComponentScan({
     "org.apache.fineract.cn.group.rest",
     "org.apache.fineract.cn.group.internal.service",
     "org.apache.fineract.cn.group.internal.repository",
-    "org.apache.fineract.cn.group.internal.command.handler"
+    "org.apache.fineract.cn.group.internal.command.handler",
+    "org.apache.fineract.cn.group.internal.dispatch",
+    "org.apache.fineract.cn.group.internal.metrics",
+    "org.apache.fineract.cn.group.internal.outbox",
+    "org.apache.fineract.cn.group.internal.tracking"
 })
 @EnableJpaRepositories({
     "org.apache.fineract.cn.group.internal.repository"
@@ -66,8 +82,42 @@ public class GroupConfiguration extends WebMvcConfigurerAdapter {
     return LoggerFactory.getLogger(ServiceConstants.LOGGER_NAME);
   }
 
+  @Bean
+  public MetricRegistry metricRegistry() {
+    return new MetricRegistry();
+  }
+
+  @Bean(destroyMethod = "stop")
+  public JmxReporter jmxReporter(final MetricRegistry metricRegistry) {
+    final JmxReporter jmxReporter = JmxReporter.forRegistry(metricRegistry).inDomain("group").build();
+    jmxReporter.start();
+    return jmxReporter;
+  }
+
+  @Bean
+  public CollectorRegistry collectorRegistry(final MetricRegistry metricRegistry) {
+    final CollectorRegistry collectorRegistry = new CollectorRegistry();
+    final String prefix = CommandMetricsAspect.PREFIX;
+    new DropwizardExports(metricRegistry, new CustomMappingSampleBuilder(Arrays.asList(
+        new MapperConfig(prefix + ".*.active", "group_command_active", labels("command")),
+        new MapperConfig(prefix + ".*.latency", "group_command_latency", labels("command")),
+        new MapperConfig(prefix + ".*.errors", "group_command_errors", labels("command")),
+        new MapperConfig(prefix + ".*.*.latency", "group_command_tenant_latency", labels("command", "tenant")),
+        new MapperConfig(prefix + ".*.*.errors", "group_command_tenant_errors", labels("command", "tenant"))
+    ))).register(collectorRegistry);
+    return collectorRegistry;
+  }
+
   @Override
   public void configurePathMatch(final PathMatchConfigurer configurer) {
     configurer.setUseSuffixPatternMatch(Boolean.FALSE);
   }
+
+  private static Map<String, String> labels(final String... names) {
+    final Map<String, String> labels = new HashMap<>();
+    for (int i = 0; i < names.length; i++) {
+      labels.put(names[i], "${" + i + "}");
+    }
+    return labels;
+  }
 }
@@ -19,8 +19,10 @@
 package org.apache.fineract.cn.group.internal.command;
 
 import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
+import java.util.Collections;
+import java.util.Set;
 
-public class ActivateGroupCommand {
+public class ActivateGroupCommand implements GroupScopedCommand {
 
   private final String identifier;
   private final GroupCommand groupCommand;
@@ -38,4 +40,9 @@ public class ActivateGroupCommand {
   public GroupCommand groupCommand() {
     return this.groupCommand;
   }
+
+  @Override
+  public Set<String> groupIdentifiers() {
+    return Collections.singleton(this.identifier);
+  }
 }
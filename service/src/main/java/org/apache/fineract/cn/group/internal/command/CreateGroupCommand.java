@@ -19,8 +19,10 @@
 package org.apache.fineract.cn.group.internal.command;
 
 import org.apache.fineract.cn.group.api.v1.domain.Group;
+import java.util.Collections;
+import java.util.Set;
 
-public class CreateGroupCommand {
+public class CreateGroupCommand implements GroupScopedCommand {
 
   private final Group group;
 
@@ -32,4 +34,9 @@ public class CreateGroupCommand {
   public Group group() {
     return this.group;
   }
+
+  @Override
+  public Set<String> groupIdentifiers() {
+    return Collections.singleton(this.group.getIdentifier());
+  }
 }
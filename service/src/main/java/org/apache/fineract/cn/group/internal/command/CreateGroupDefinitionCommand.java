@@ -20,7 +20,7 @@ package org.apache.fineract.cn.group.internal.command;
 
 import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
 
-public class CreateGroupDefinitionCommand {
+public class CreateGroupDefinitionCommand implements DefinitionScopedCommand {
 
   private final GroupDefinition groupDefinition;
 
@@ -32,4 +32,9 @@ public class CreateGroupDefinitionCommand {
   public GroupDefinition groupDefinition() {
     return this.groupDefinition;
   }
+
+  @Override
+  public String groupDefinitionIdentifier() {
+    return this.groupDefinition.getIdentifier();
+  }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.command;
+
+import org.apache.fineract.cn.group.api.v1.domain.Group;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class CreateGroupsCommand implements BulkGroupCommand {
+
+  private final List<Group> groups;
+
+  public CreateGroupsCommand(final List<Group> groups) {
+    super();
+    this.groups = groups;
+  }
+
+  public List<Group> groups() {
+    return this.groups;
+  }
+
+  @Override
+  public Set<String> groupIdentifiers() {
+    return this.groups.stream().map(Group::getIdentifier).collect(Collectors.toSet());
+  }
+
+  @Override
+  public CreateGroupsCommand partOf(final Set<String> groupIdentifiers) {
+    return new CreateGroupsCommand(this.groups.stream()
+        .filter(group -> groupIdentifiers.contains(group.getIdentifier()))
+        .collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.command;
+
+import java.util.Collections;
+import java.util.Set;
+
+public class RemoveMemberCommand implements GroupScopedCommand {
+
+  private final String identifier;
+  private final String customerIdentifier;
+
+  public RemoveMemberCommand(final String identifier, final String customerIdentifier) {
+    super();
+    this.identifier = identifier;
+    this.customerIdentifier = customerIdentifier;
+  }
+
+  public String identifier() {
+    return this.identifier;
+  }
+
+  public String customerIdentifier() {
+    return this.customerIdentifier;
+  }
+
+  @Override
+  public Set<String> groupIdentifiers() {
+    return Collections.singleton(this.identifier);
+  }
+}
@@ -19,8 +19,10 @@
 package org.apache.fineract.cn.group.internal.command;
 
 import org.apache.fineract.cn.group.api.v1.domain.SignOffMeeting;
+import java.util.Collections;
+import java.util.Set;
 
-public class SignOffMeetingCommand {
+public class SignOffMeetingCommand implements GroupScopedCommand {
 
   private final String groupIdentifier;
   private final SignOffMeeting signOffMeeting;
@@ -38,4 +40,9 @@ public class SignOffMeetingCommand {
   public SignOffMeeting signOffMeeting() {
     return this.signOffMeeting;
   }
+
+  @Override
+  public Set<String> groupIdentifiers() {
+    return Collections.singleton(this.groupIdentifier);
+  }
 }
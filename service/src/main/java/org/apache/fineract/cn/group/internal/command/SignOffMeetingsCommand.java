@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.command;
+
+import org.apache.fineract.cn.group.api.v1.domain.SignOffMeeting;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class SignOffMeetingsCommand implements BulkGroupCommand {
+
+  private final List<SignOffMeeting> signOffMeetings;
+
+  public SignOffMeetingsCommand(final List<SignOffMeeting> signOffMeetings) {
+    super();
+    this.signOffMeetings = signOffMeetings;
+  }
+
+  public List<SignOffMeeting> signOffMeetings() {
+    return this.signOffMeetings;
+  }
+
+  @Override
+  public Set<String> groupIdentifiers() {
+    return this.signOffMeetings.stream().map(SignOffMeeting::getGroupIdentifier).collect(Collectors.toSet());
+  }
+
+  @Override
+  public SignOffMeetingsCommand partOf(final Set<String> groupIdentifiers) {
+    return new SignOffMeetingsCommand(this.signOffMeetings.stream()
+        .filter(signOffMeeting -> groupIdentifiers.contains(signOffMeeting.getGroupIdentifier()))
+        .collect(Collectors.toList()));
+  }
+}
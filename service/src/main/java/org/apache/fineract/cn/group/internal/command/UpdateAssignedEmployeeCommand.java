@@ -18,7 +18,10 @@
  */
 package org.apache.fineract.cn.group.internal.command;
 
-public class UpdateAssignedEmployeeCommand {
+import java.util.Collections;
+import java.util.Set;
+
+public class UpdateAssignedEmployeeCommand implements GroupScopedCommand {
 
   private final String identifier;
   private final String employeeIdentifier;
@@ -36,4 +39,9 @@ public class UpdateAssignedEmployeeCommand {
   public String employeeIdentifier() {
     return this.employeeIdentifier;
   }
+
+  @Override
+  public Set<String> groupIdentifiers() {
+    return Collections.singleton(this.identifier);
+  }
 }
@@ -19,17 +19,34 @@
 package org.apache.fineract.cn.group.internal.command;
 
 import org.apache.fineract.cn.group.api.v1.domain.Group;
+import java.util.Collections;
+import java.util.Set;
 
-public class UpdateGroupCommand {
+public class UpdateGroupCommand implements GroupScopedCommand {
 
     private final Group group;
+    private final Long expectedVersion;
 
     public UpdateGroupCommand(final Group group) {
+        this(group, null);
+    }
+
+    public UpdateGroupCommand(final Group group, final Long expectedVersion) {
         super();
         this.group = group;
+        this.expectedVersion = expectedVersion;
     }
 
     public Group group() {
         return this.group;
     }
-}
\ No newline at end of file
+
+    public Long expectedVersion() {
+        return this.expectedVersion;
+    }
+
+    @Override
+    public Set<String> groupIdentifiers() {
+        return Collections.singleton(this.group.getIdentifier());
+    }
+}
@@ -20,7 +20,7 @@ package org.apache.fineract.cn.group.internal.command;
 
 import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
 
-public class UpdateGroupDefinitionCommand {
+public class UpdateGroupDefinitionCommand implements DefinitionScopedCommand {
 
 
     private final GroupDefinition groupDefinition;
@@ -33,4 +33,9 @@ public class UpdateGroupDefinitionCommand {
     public GroupDefinition groupDefinition() {
         return this.groupDefinition;
     }
+
+    @Override
+    public String groupDefinitionIdentifier() {
+        return this.groupDefinition.getIdentifier();
+    }
 }
@@ -19,8 +19,9 @@
 package org.apache.fineract.cn.group.internal.command;
 
 import java.util.Set;
+import java.util.Collections;
 
-public class UpdateLeadersCommand {
+public class UpdateLeadersCommand implements GroupScopedCommand {
 
   private final String identifier;
   private final Set<String> customerIdentifiers;
@@ -38,4 +39,9 @@ public class UpdateLeadersCommand {
   public Set<String> customerIdentifiers() {
     return this.customerIdentifiers;
   }
+
+  @Override
+  public Set<String> groupIdentifiers() {
+    return Collections.singleton(this.identifier);
+  }
 }
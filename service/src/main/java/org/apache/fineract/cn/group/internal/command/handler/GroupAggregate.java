@@ -19,54 +19,72 @@
 package org.apache.fineract.cn.group.internal.command.handler;
 
 import org.apache.fineract.cn.group.api.v1.EventConstants;
-import org.apache.fineract.cn.group.api.v1.domain.Attendee;
+import org.apache.fineract.cn.group.api.v1.domain.Address;
 import org.apache.fineract.cn.group.api.v1.domain.Cycle;
 import org.apache.fineract.cn.group.api.v1.domain.Group;
 import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
 import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
 import org.apache.fineract.cn.group.api.v1.domain.SignOffMeeting;
 import org.apache.fineract.cn.group.internal.command.ActivateGroupCommand;
+import org.apache.fineract.cn.group.internal.command.AddMemberCommand;
 import org.apache.fineract.cn.group.internal.command.CloseGroupCommand;
 import org.apache.fineract.cn.group.internal.command.CreateGroupCommand;
 import org.apache.fineract.cn.group.internal.command.CreateGroupDefinitionCommand;
+import org.apache.fineract.cn.group.internal.command.CreateGroupsCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateGroupDefinitionCommand;
+import org.apache.fineract.cn.group.internal.command.RemoveMemberCommand;
 import org.apache.fineract.cn.group.internal.command.ReopenGroupCommand;
 import org.apache.fineract.cn.group.internal.command.SignOffMeetingCommand;
+import org.apache.fineract.cn.group.internal.command.SignOffMeetingsCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateAssignedEmployeeCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateLeadersCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateMembersCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateGroupCommand;
 import org.apache.fineract.cn.group.internal.mapper.AddressMapper;
 import org.apache.fineract.cn.group.internal.mapper.GroupCommandMapper;
+import org.apache.fineract.cn.group.internal.mapper.GroupMemberMapper;
+import org.apache.fineract.cn.group.internal.outbox.EventOutbox;
 import org.apache.fineract.cn.group.internal.repository.AddressEntity;
 import org.apache.fineract.cn.group.internal.repository.AddressRepository;
 import org.apache.fineract.cn.group.internal.repository.AttendeeEntity;
 import org.apache.fineract.cn.group.internal.repository.AttendeeRepository;
+import org.apache.fineract.cn.group.internal.repository.GroupBatchWriter;
 import org.apache.fineract.cn.group.internal.repository.GroupCommandEntity;
 import org.apache.fineract.cn.group.internal.repository.GroupCommandRepository;
 import org.apache.fineract.cn.group.internal.repository.GroupDefinitionEntity;
 import org.apache.fineract.cn.group.internal.repository.GroupDefinitionRepository;
 import org.apache.fineract.cn.group.internal.repository.GroupEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupMemberEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupMemberRepository;
 import org.apache.fineract.cn.group.internal.repository.GroupRepository;
 import org.apache.fineract.cn.group.internal.repository.MeetingEntity;
 import org.apache.fineract.cn.group.internal.repository.MeetingRepository;
+import org.apache.fineract.cn.group.internal.repository.MeetingScheduleWriter;
+import org.apache.fineract.cn.group.internal.service.GroupDefinitionService;
+import org.apache.fineract.cn.group.internal.service.GroupService;
+import org.apache.fineract.cn.group.internal.service.MeetingScheduler;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.fineract.cn.api.util.UserContextHolder;
 import org.apache.fineract.cn.command.annotation.Aggregate;
 import org.apache.fineract.cn.command.annotation.CommandHandler;
-import org.apache.fineract.cn.command.annotation.EventEmitter;
 import org.apache.fineract.cn.lang.DateConverter;
 import org.apache.fineract.cn.lang.ServiceException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @SuppressWarnings("unused")
 @Aggregate
@@ -78,6 +96,12 @@ public class GroupAggregate {
   private final MeetingRepository meetingRepository;
   private final AttendeeRepository attendeeRepository;
   private final AddressRepository addressRepository;
+  private final MeetingScheduleWriter meetingScheduleWriter;
+  private final GroupMemberRepository groupMemberRepository;
+  private final GroupDefinitionService groupDefinitionService;
+  private final GroupService groupService;
+  private final GroupBatchWriter groupBatchWriter;
+  private final EventOutbox eventOutbox;
 
   @Autowired
   public GroupAggregate(final GroupDefinitionRepository groupDefinitionRepository,
@@ -85,7 +109,13 @@ public class GroupAggregate {
                         final GroupCommandRepository groupCommandRepository,
                         final MeetingRepository meetingRepository,
                         final AttendeeRepository attendeeRepository,
-                        final AddressRepository addressRepository) {
+                        final AddressRepository addressRepository,
+                        final MeetingScheduleWriter meetingScheduleWriter,
+                        final GroupMemberRepository groupMemberRepository,
+                        final GroupDefinitionService groupDefinitionService,
+                        final GroupService groupService,
+                        final GroupBatchWriter groupBatchWriter,
+                        final EventOutbox eventOutbox) {
     super();
     this.groupDefinitionRepository = groupDefinitionRepository;
     this.groupRepository = groupRepository;
@@ -93,11 +123,16 @@ public class GroupAggregate {
     this.meetingRepository = meetingRepository;
     this.attendeeRepository = attendeeRepository;
     this.addressRepository = addressRepository;
+    this.meetingScheduleWriter = meetingScheduleWriter;
+    this.groupMemberRepository = groupMemberRepository;
+    this.groupDefinitionService = groupDefinitionService;
+    this.groupService = groupService;
+    this.groupBatchWriter = groupBatchWriter;
+    this.eventOutbox = eventOutbox;
   }
 
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.POST_GROUP_DEFINITION)
   public String createDefinition(final CreateGroupDefinitionCommand createGroupDefinitionCommand) {
     final GroupDefinition groupDefinition = createGroupDefinitionCommand.groupDefinition();
     final GroupDefinitionEntity groupDefinitionEntity = new GroupDefinitionEntity();
@@ -109,11 +144,12 @@ public class GroupAggregate {
     groupDefinitionEntity.setNumberOfMeetings(cycle.getNumberOfMeetings());
     groupDefinitionEntity.setFrequency(cycle.getFrequency());
     groupDefinitionEntity.setAdjustment(cycle.getAdjustment());
+    groupDefinitionEntity.setScheduleMode(cycle.getSchedule() != null ? cycle.getSchedule() : Cycle.Schedule.EAGER.name());
     groupDefinitionEntity.setCreatedBy(UserContextHolder.checkedGetUser());
     groupDefinitionEntity.setCreatedOn(LocalDateTime.now(Clock.systemUTC()));
     this.groupDefinitionRepository.save(groupDefinitionEntity);
 
-    return groupDefinition.getIdentifier();
+    return this.eventOutbox.add(EventConstants.POST_GROUP_DEFINITION, groupDefinition.getIdentifier());
   }
 //
 //    @Transactional
@@ -138,7 +174,6 @@ public class GroupAggregate {
 
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.PUT_GROUP_DEFINITION)
   public String updateDefinition(final UpdateGroupDefinitionCommand updateGroupDefinitionCommand) {
       final GroupDefinition groupDefinition = updateGroupDefinitionCommand.groupDefinition();
       final Cycle cycle = groupDefinition.getCycle();
@@ -150,18 +185,27 @@ public class GroupAggregate {
                 groupDefinitionEntity.setNumberOfMeetings(cycle.getNumberOfMeetings());
                 groupDefinitionEntity.setFrequency(cycle.getFrequency());
                 groupDefinitionEntity.setAdjustment(cycle.getAdjustment());
+                if (cycle.getSchedule() != null) {
+                  groupDefinitionEntity.setScheduleMode(cycle.getSchedule());
+                }
                 this.groupDefinitionRepository.save(groupDefinitionEntity);
 
-         return groupDefinition.getIdentifier();
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                  @Override
+                  public void afterCommit() {
+                    GroupAggregate.this.groupDefinitionService.invalidate(groupDefinition.getIdentifier());
+                  }
+                });
+
+         return this.eventOutbox.add(EventConstants.PUT_GROUP_DEFINITION, groupDefinition.getIdentifier());
       }
 
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.POST_GROUP)
   public String createGroup(final CreateGroupCommand createGroupCommand) {
     final Group group = createGroupCommand.group();
     final GroupDefinitionEntity groupDefinitionEntity =
-        this.groupDefinitionRepository.findByIdentifier(group.getGroupDefinitionIdentifier())
+        this.groupDefinitionService.findReference(group.getGroupDefinitionIdentifier())
             .orElseThrow(
                 () -> ServiceException.notFound("Group definition {0} not found.", group.getGroupDefinitionIdentifier())
             );
@@ -172,8 +216,6 @@ public class GroupAggregate {
     groupEntity.setGroupDefinition(groupDefinitionEntity);
     groupEntity.setIdentifier(group.getIdentifier());
     groupEntity.setName(group.getName());
-    groupEntity.setLeaders(StringUtils.collectionToCommaDelimitedString(group.getLeaders()));
-    groupEntity.setMembers(StringUtils.collectionToCommaDelimitedString(group.getMembers()));
     groupEntity.setOffice(group.getOffice());
     groupEntity.setAddressEntity(savedAddress);
     groupEntity.setAssignedEmployee(group.getAssignedEmployee());
@@ -181,118 +223,219 @@ public class GroupAggregate {
     groupEntity.setGroupStatus(Group.Status.PENDING.name());
     groupEntity.setCreatedBy(UserContextHolder.checkedGetUser());
     groupEntity.setCreatedOn(LocalDateTime.now(Clock.systemUTC()));
-    this.groupRepository.save(groupEntity);
-    return group.getIdentifier();
+    final GroupEntity savedGroupEntity = this.groupRepository.save(groupEntity);
+
+    if (group.getLeaders() != null) {
+      this.groupMemberRepository.save(
+          GroupMemberMapper.map(savedGroupEntity.getId(), group.getLeaders(), GroupMemberEntity.Role.LEADER));
+    }
+    this.groupMemberRepository.save(
+        GroupMemberMapper.map(savedGroupEntity.getId(), group.getMembers(), GroupMemberEntity.Role.MEMBER));
+    return this.eventOutbox.add(EventConstants.POST_GROUP, group.getIdentifier());
   }
 
-  // Updating Group
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.PUT_GROUP)
-  public String updateGroup(final UpdateGroupCommand updateGroupCommand) {
-      final Group group = updateGroupCommand.group();
-      final AddressEntity savedAddress = this.addressRepository.save(AddressMapper.map(group.getAddress()));
-      final GroupEntity groupEntity = findGroupEntityOrThrow(group.getIdentifier());
+  public List<String> createGroups(final CreateGroupsCommand createGroupsCommand) {
+    final List<Group> groups = createGroupsCommand.groups();
+    // groups were validated when accepted, the ones invalidated since then are skipped instead of failing the batch
+    final Set<String> existingIdentifiers = new HashSet<>(this.groupRepository.findIdentifiersIn(
+        groups.stream().map(Group::getIdentifier).collect(Collectors.toList())));
+    final Map<String, Optional<GroupDefinitionEntity>> groupDefinitionEntities = new HashMap<>();
+    final List<Group> acceptedGroups = groups.stream()
+        .filter(group -> groupDefinitionEntities.computeIfAbsent(
+            group.getGroupDefinitionIdentifier(), this.groupDefinitionService::findReference).isPresent())
+        .filter(group -> existingIdentifiers.add(group.getIdentifier()))
+        .collect(Collectors.toList());
+    if (acceptedGroups.isEmpty()) {
+      return Collections.emptyList();
+    }
 
-     // groupEntity.setGroupDefinition(groupDefinitionEntity);
-     // groupEntity.setIdentifier(group.getIdentifier());
+    final String createdBy = UserContextHolder.checkedGetUser();
+    final LocalDateTime createdOn = LocalDateTime.now(Clock.systemUTC());
+    final List<GroupEntity> groupEntities = new ArrayList<>(acceptedGroups.size());
+    acceptedGroups.forEach(group -> {
+      final GroupEntity groupEntity = new GroupEntity();
+      groupEntity.setGroupDefinition(groupDefinitionEntities.get(group.getGroupDefinitionIdentifier()).get());
+      groupEntity.setIdentifier(group.getIdentifier());
       groupEntity.setName(group.getName());
       groupEntity.setOffice(group.getOffice());
+      groupEntity.setAddressEntity(AddressMapper.map(group.getAddress()));
+      groupEntity.setAssignedEmployee(group.getAssignedEmployee());
       groupEntity.setWeekday(group.getWeekday());
-     // groupEntity.setGroupStatus(group.getStatus());
-      //groupEntity.setAddressEntity(group.getAddress());
-
-      if (group.getAssignedEmployee() != null) {
-          this.updateAssignedEmployee(new UpdateAssignedEmployeeCommand(group.getIdentifier(), group.getAssignedEmployee()));
-      }
-
+      groupEntity.setGroupStatus(Group.Status.PENDING.name());
+      groupEntity.setCreatedBy(createdBy);
+      groupEntity.setCreatedOn(createdOn);
+      groupEntities.add(groupEntity);
+    });
+    this.groupBatchWriter.write(groupEntities);
+
+    final List<GroupMemberEntity> groupMemberEntities = new ArrayList<>();
+    for (int i = 0; i < acceptedGroups.size(); i++) {
+      final Group group = acceptedGroups.get(i);
+      final Long groupId = groupEntities.get(i).getId();
       if (group.getLeaders() != null) {
-          this.updateLeaders(new UpdateLeadersCommand(group.getIdentifier(), group.getLeaders()));
+        groupMemberEntities.addAll(GroupMemberMapper.map(groupId, group.getLeaders(), GroupMemberEntity.Role.LEADER));
       }
-
       if (group.getMembers() != null) {
-          this.updateMembers(new UpdateMembersCommand(group.getIdentifier(), group.getMembers()));
+        groupMemberEntities.addAll(GroupMemberMapper.map(groupId, group.getMembers(), GroupMemberEntity.Role.MEMBER));
       }
+    }
+    this.groupBatchWriter.writeMembers(groupMemberEntities);
 
+    return this.eventOutbox.add(EventConstants.POST_GROUPS,
+        groupEntities.stream().map(GroupEntity::getIdentifier).collect(Collectors.toList()));
+  }
 
-      groupEntity.setLastModifiedBy(UserContextHolder.checkedGetUser());
-      groupEntity.setLastModifiedOn(LocalDateTime.now(Clock.systemUTC()));
+  // Updating Group
+  @Transactional
+  @CommandHandler
+  public String updateGroup(final UpdateGroupCommand updateGroupCommand) {
+    final Group group = updateGroupCommand.group();
+    final GroupEntity groupEntity = findGroupEntityOrThrow(group.getIdentifier());
+    if (updateGroupCommand.expectedVersion() != null
+        && !updateGroupCommand.expectedVersion().equals(groupEntity.getVersion())) {
+      throw ServiceException.conflict("Group {0} has been modified concurrently.", group.getIdentifier());
+    }
 
-      this.groupRepository.save(groupEntity);
+    groupEntity.setName(group.getName());
+    groupEntity.setOffice(group.getOffice());
+    groupEntity.setWeekday(group.getWeekday());
+    if (group.getAssignedEmployee() != null) {
+      groupEntity.setAssignedEmployee(group.getAssignedEmployee());
+    }
+    if (group.getAddress() != null) {
+      this.updateAddress(groupEntity.getAddressEntity(), group.getAddress());
+    }
+    if (group.getLeaders() != null) {
+      this.replaceMembers(groupEntity, group.getLeaders(), GroupMemberEntity.Role.LEADER);
+    }
+    if (group.getMembers() != null) {
+      this.replaceMembers(groupEntity, group.getMembers(), GroupMemberEntity.Role.MEMBER);
+    }
+    groupEntity.setLastModifiedBy(UserContextHolder.checkedGetUser());
+    groupEntity.setLastModifiedOn(LocalDateTime.now(Clock.systemUTC()));
+    this.groupRepository.save(groupEntity);
 
-      return group.getIdentifier();
+    this.invalidateAfterCommit(group.getIdentifier());
+    return this.eventOutbox.add(EventConstants.PUT_GROUP, group.getIdentifier());
   }
+
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.ACTIVATE_GROUP)
   public String activateGroup(final ActivateGroupCommand activateGroupCommand) {
     this.groupRepository.findByIdentifier(activateGroupCommand.identifier())
         .ifPresent(groupEntity -> {
           final GroupEntity savedGroupEntity = this.processCommandInternally(groupEntity, activateGroupCommand.groupCommand());
           this.createMeetingSchedule(groupEntity.getGroupDefinition(), savedGroupEntity);
         });
-    return activateGroupCommand.identifier();
+    this.invalidateAfterCommit(activateGroupCommand.identifier());
+    return this.eventOutbox.add(EventConstants.ACTIVATE_GROUP, activateGroupCommand.identifier());
   }
 
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.CLOSE_GROUP)
   public String closeGroup(final CloseGroupCommand closeGroupCommand) {
     this.groupRepository.findByIdentifier(closeGroupCommand.identifier())
         .ifPresent(groupEntity -> {
           final List<MeetingEntity> currentMeetings =
               this.meetingRepository.findByGroupEntityAndCurrentCycleOrderByMeetingSequenceDesc(groupEntity, groupEntity.getCurrentCycle());
-          if (currentMeetings.stream().anyMatch(meetingEntity -> meetingEntity.getHeldOn() == null)) {
+          final boolean pendingLazyMeetings = Cycle.Schedule.LAZY.name().equals(groupEntity.getScheduleMode())
+              && currentMeetings.size() < groupEntity.getScheduleMeetings();
+          if (pendingLazyMeetings || currentMeetings.stream().anyMatch(meetingEntity -> meetingEntity.getHeldOn() == null)) {
             throw ServiceException.conflict("Not all meetings for group {0} signed off.", closeGroupCommand.identifier());
           }
           this.processCommandInternally(groupEntity, closeGroupCommand.groupCommand());
         });
-    return closeGroupCommand.identifier();
+    this.invalidateAfterCommit(closeGroupCommand.identifier());
+    return this.eventOutbox.add(EventConstants.CLOSE_GROUP, closeGroupCommand.identifier());
   }
 
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.REOPEN_GROUP)
   public String reopenGroup(final ReopenGroupCommand reopenGroupCommand) {
     this.groupRepository.findByIdentifier(reopenGroupCommand.identifier())
         .ifPresent(groupEntity -> {
           final GroupEntity savedGroupEntity = this.processCommandInternally(groupEntity, reopenGroupCommand.groupCommand());
           this.createMeetingSchedule(groupEntity.getGroupDefinition(), savedGroupEntity);
         });
-    return reopenGroupCommand.identifier();
+    this.invalidateAfterCommit(reopenGroupCommand.identifier());
+    return this.eventOutbox.add(EventConstants.REOPEN_GROUP, reopenGroupCommand.identifier());
   }
 
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.PUT_GROUP)
   public String updateLeaders(final UpdateLeadersCommand updateLeadersCommand) {
     this.groupRepository.findByIdentifier(updateLeadersCommand.identifier())
         .ifPresent(groupEntity -> {
-          groupEntity.setLeaders(StringUtils.collectionToCommaDelimitedString(updateLeadersCommand.customerIdentifiers()));
+          this.replaceMembers(groupEntity, updateLeadersCommand.customerIdentifiers(), GroupMemberEntity.Role.LEADER);
           groupEntity.setLastModifiedBy(UserContextHolder.checkedGetUser());
           groupEntity.setLastModifiedOn(LocalDateTime.now(Clock.systemUTC()));
           this.groupRepository.save(groupEntity);
         });
-    return updateLeadersCommand.identifier();
+    this.invalidateAfterCommit(updateLeadersCommand.identifier());
+    return this.eventOutbox.add(EventConstants.PUT_GROUP, updateLeadersCommand.identifier());
   }
 
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.PUT_GROUP)
   public String updateMembers(final UpdateMembersCommand updateMembersCommand) {
     this.groupRepository.findByIdentifier(updateMembersCommand.identifier())
         .ifPresent(groupEntity -> {
-          groupEntity.setMembers(StringUtils.collectionToCommaDelimitedString(updateMembersCommand.customerIdentifiers()));
+          this.replaceMembers(groupEntity, updateMembersCommand.customerIdentifiers(), GroupMemberEntity.Role.MEMBER);
+          groupEntity.setLastModifiedBy(UserContextHolder.checkedGetUser());
+          groupEntity.setLastModifiedOn(LocalDateTime.now(Clock.systemUTC()));
+          this.groupRepository.save(groupEntity);
+        });
+    this.invalidateAfterCommit(updateMembersCommand.identifier());
+    return this.eventOutbox.add(EventConstants.PUT_GROUP, updateMembersCommand.identifier());
+  }
+
+  @Transactional
+  @CommandHandler
+  public String addMember(final AddMemberCommand addMemberCommand) {
+    this.groupRepository.findByIdentifier(addMemberCommand.identifier())
+        .ifPresent(groupEntity -> {
+          final String customerIdentifier = addMemberCommand.customerIdentifier();
+          if (this.groupMemberRepository.findByGroupIdAndRoleAndCustomerIdentifier(groupEntity.getId(),
+              GroupMemberEntity.Role.MEMBER.name(), customerIdentifier).isPresent()) {
+            return;
+          }
+          this.groupMemberRepository.save(GroupMemberMapper.map(groupEntity.getId(),
+              Collections.singleton(customerIdentifier), GroupMemberEntity.Role.MEMBER));
+          this.meetingScheduleWriter.addUpcomingAttendees(groupEntity, LocalDate.now(Clock.systemUTC()),
+              Collections.singleton(customerIdentifier));
           groupEntity.setLastModifiedBy(UserContextHolder.checkedGetUser());
           groupEntity.setLastModifiedOn(LocalDateTime.now(Clock.systemUTC()));
           this.groupRepository.save(groupEntity);
         });
-    return updateMembersCommand.identifier();
+    this.invalidateAfterCommit(addMemberCommand.identifier());
+    return this.eventOutbox.add(EventConstants.PUT_GROUP, addMemberCommand.identifier());
+  }
+
+  @Transactional
+  @CommandHandler
+  public String removeMember(final RemoveMemberCommand removeMemberCommand) {
+    this.groupRepository.findByIdentifier(removeMemberCommand.identifier())
+        .ifPresent(groupEntity -> {
+          final String customerIdentifier = removeMemberCommand.customerIdentifier();
+          this.groupMemberRepository.findByGroupIdAndRoleAndCustomerIdentifier(groupEntity.getId(),
+              GroupMemberEntity.Role.MEMBER.name(), customerIdentifier)
+              .ifPresent(groupMemberEntity -> {
+                this.groupMemberRepository.delete(groupMemberEntity);
+                this.meetingScheduleWriter.removeUpcomingAttendees(groupEntity, LocalDate.now(Clock.systemUTC()),
+                    Collections.singleton(customerIdentifier));
+                groupEntity.setLastModifiedBy(UserContextHolder.checkedGetUser());
+                groupEntity.setLastModifiedOn(LocalDateTime.now(Clock.systemUTC()));
+                this.groupRepository.save(groupEntity);
+              });
+        });
+    this.invalidateAfterCommit(removeMemberCommand.identifier());
+    return this.eventOutbox.add(EventConstants.PUT_GROUP, removeMemberCommand.identifier());
   }
 
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.PUT_GROUP)
   public String updateAssignedEmployee(final UpdateAssignedEmployeeCommand updateAssignedEmployeeCommand) {
     this.groupRepository.findByIdentifier(updateAssignedEmployeeCommand.identifier())
         .ifPresent(groupEntity -> {
@@ -301,88 +444,172 @@ public class GroupAggregate {
           groupEntity.setLastModifiedOn(LocalDateTime.now(Clock.systemUTC()));
           this.groupRepository.save(groupEntity);
         });
-    return updateAssignedEmployeeCommand.identifier();
+    this.invalidateAfterCommit(updateAssignedEmployeeCommand.identifier());
+    return this.eventOutbox.add(EventConstants.PUT_GROUP, updateAssignedEmployeeCommand.identifier());
   }
 
   @Transactional
   @CommandHandler
-  @EventEmitter(selectorName = EventConstants.SELECTOR_NAME, selectorValue = EventConstants.PUT_MEETING)
   public String signOffMeeting(final SignOffMeetingCommand signOffMeetingCommand) {
     this.groupRepository.findByIdentifier(signOffMeetingCommand.groupIdentifier())
         .ifPresent(groupEntity -> {
           final SignOffMeeting signOffMeeting = signOffMeetingCommand.signOffMeeting();
-          this.meetingRepository
-              .findByGroupEntityAndCurrentCycleAndMeetingSequence(groupEntity,
-                  signOffMeeting.getCycle(), signOffMeeting.getSequence())
-              .ifPresent(meetingEntity -> {
-                meetingEntity.setDuration(signOffMeeting.getDuration());
-                meetingEntity.setHeldOn(LocalDate.now(Clock.systemUTC()));
-                this.meetingRepository.save(meetingEntity);
-
-                final List<AttendeeEntity> attendeeEntities = this.attendeeRepository.findByMeeting(meetingEntity);
-                attendeeEntities.forEach(attendeeEntity -> signOffMeeting.getAttendees()
-                    .stream()
-                    .filter(attendee -> attendee.getCustomerIdentifier().equals(attendeeEntity.getCustomerIdentifier()))
-                    .findFirst()
-                    .ifPresent(attendee -> {
-                      attendeeEntity.setStatus(attendee.getStatus());
-                      this.attendeeRepository.save(attendeeEntity);
-                }));
-              });
+          this.findOrMaterializeMeeting(groupEntity, signOffMeeting.getCycle(), signOffMeeting.getSequence())
+              .ifPresent(meetingEntity -> this.signOff(Collections.singletonMap(meetingEntity, signOffMeeting)));
         });
-    return signOffMeetingCommand.groupIdentifier();
+    return this.eventOutbox.add(EventConstants.PUT_MEETING, signOffMeetingCommand.groupIdentifier());
   }
 
-  private void createMeetingSchedule(final GroupDefinitionEntity groupDefinitionEntity, final GroupEntity groupEntity) {
-    final Integer numberOfMeetings = groupDefinitionEntity.getNumberOfMeetings();
-    final Cycle.Frequency frequency = Cycle.Frequency.valueOf(groupDefinitionEntity.getFrequency());
-    final Cycle.Adjustment adjustment = Cycle.Adjustment.valueOf(groupDefinitionEntity.getAdjustment());
-    final Group.Weekday weekday = Group.Weekday.from(groupEntity.getWeekday());
+  @Transactional
+  @CommandHandler
+  public List<String> signOffMeetings(final SignOffMeetingsCommand signOffMeetingsCommand) {
+    final List<SignOffMeeting> signOffMeetings = signOffMeetingsCommand.signOffMeetings();
+    final Map<String, GroupEntity> groupEntities = this.groupRepository.findByIdentifierIn(
+        signOffMeetings.stream().map(SignOffMeeting::getGroupIdentifier).collect(Collectors.toSet()))
+        .stream()
+        .collect(Collectors.toMap(GroupEntity::getIdentifier, groupEntity -> groupEntity));
+
+    final Map<MeetingEntity, SignOffMeeting> signOffsByMeeting = new LinkedHashMap<>();
+    signOffMeetings.forEach(signOffMeeting -> {
+      final GroupEntity groupEntity = groupEntities.get(signOffMeeting.getGroupIdentifier());
+      if (groupEntity != null) {
+        this.findOrMaterializeMeeting(groupEntity, signOffMeeting.getCycle(), signOffMeeting.getSequence())
+            .ifPresent(meetingEntity -> signOffsByMeeting.put(meetingEntity, signOffMeeting));
+      }
+    });
+    this.signOff(signOffsByMeeting);
 
-    final Set<String> members = StringUtils.commaDelimitedListToSet(groupEntity.getMembers());
+    return this.eventOutbox.add(EventConstants.PUT_MEETINGS, signOffMeetings.stream()
+        .map(SignOffMeeting::getGroupIdentifier)
+        .distinct()
+        .collect(Collectors.toList()));
+  }
 
-    LocalDate meeting = LocalDate.now(Clock.systemUTC());
-    if (frequency != Cycle.Frequency.DAILY) {
-      meeting = meeting.with(ChronoField.DAY_OF_WEEK, weekday.getValue());
+  private void signOff(final Map<MeetingEntity, SignOffMeeting> signOffsByMeeting) {
+    if (signOffsByMeeting.isEmpty()) {
+      return;
     }
 
-    for (int i = 0; i < numberOfMeetings; i++) {
-      switch (frequency) {
-        case DAILY:
-          meeting = meeting.plusDays(1L);
-          break;
-        case WEEKLY:
-          meeting = meeting.plusWeeks(1L);
-          break;
-        case FORTNIGHTLY:
-          meeting = meeting.plusWeeks(2L);
-          break;
-        case MONTHLY:
-          meeting.plusMonths(1L);
-          break;
+    final LocalDate heldOn = LocalDate.now(Clock.systemUTC());
+    signOffsByMeeting.forEach((meetingEntity, signOffMeeting) -> {
+      meetingEntity.setDuration(signOffMeeting.getDuration());
+      meetingEntity.setHeldOn(heldOn);
+    });
+    this.meetingRepository.save(signOffsByMeeting.keySet());
+
+    final Map<Long, Map<String, AttendeeEntity>> attendeesByMeeting =
+        this.attendeeRepository.findByMeetingIn(signOffsByMeeting.keySet())
+            .stream()
+            .collect(Collectors.groupingBy(attendeeEntity -> attendeeEntity.getMeeting().getId(),
+                Collectors.toMap(AttendeeEntity::getCustomerIdentifier, attendeeEntity -> attendeeEntity)));
+
+    final Map<Long, String> statusesByAttendeeId = new HashMap<>();
+    signOffsByMeeting.forEach((meetingEntity, signOffMeeting) -> {
+      final Map<String, AttendeeEntity> attendeeEntities =
+          attendeesByMeeting.getOrDefault(meetingEntity.getId(), Collections.emptyMap());
+      if (signOffMeeting.getAttendees() != null) {
+        signOffMeeting.getAttendees().forEach(attendee -> {
+          final AttendeeEntity attendeeEntity = attendeeEntities.get(attendee.getCustomerIdentifier());
+          if (attendeeEntity != null) {
+            statusesByAttendeeId.put(attendeeEntity.getId(), attendee.getStatus());
+          }
+        });
       }
+    });
+    this.meetingScheduleWriter.updateAttendeeStatuses(statusesByAttendeeId);
+  }
+
+  private Optional<MeetingEntity> findOrMaterializeMeeting(final GroupEntity groupEntity, final Integer cycle,
+                                                           final Integer sequence) {
+    final Optional<MeetingEntity> optionalMeeting =
+        this.meetingRepository.findByGroupEntityAndCurrentCycleAndMeetingSequence(groupEntity, cycle, sequence);
+    if (optionalMeeting.isPresent()
+        || !Cycle.Schedule.LAZY.name().equals(groupEntity.getScheduleMode())
+        || !groupEntity.getCurrentCycle().equals(cycle)) {
+      return optionalMeeting;
+    }
 
-      final MeetingEntity meetingEntity = new MeetingEntity();
-      meetingEntity.setGroupEntity(groupEntity);
-      meetingEntity.setCurrentCycle(groupEntity.getCurrentCycle());
-      meetingEntity.setMeetingSequence((i + 1));
-      meetingEntity.setScheduledFor(meeting);
-      meetingEntity.setCreatedBy(UserContextHolder.checkedGetUser());
-      meetingEntity.setCreatedOn(LocalDateTime.now(Clock.systemUTC()));
-      final MeetingEntity savedMeeting = this.meetingRepository.save(meetingEntity);
-
-      this.attendeeRepository.save(
-          members
-              .stream()
-              .map(member -> {
-                final AttendeeEntity attendeeEntity = new AttendeeEntity();
-                attendeeEntity.setMeeting(savedMeeting);
-                attendeeEntity.setCustomerIdentifier(member);
-                attendeeEntity.setStatus(Attendee.Status.EXPECTED.name());
-                return attendeeEntity;
-              })
-              .collect(Collectors.toList())
-      );
+    final Set<String> members = GroupMemberMapper.map(
+        this.groupMemberRepository.findByGroupIdAndRole(groupEntity.getId(), GroupMemberEntity.Role.MEMBER.name()),
+        GroupMemberEntity.Role.MEMBER);
+    final Optional<MeetingEntity> scheduledMeeting = MeetingScheduler.schedule(groupEntity, members,
+        UserContextHolder.checkedGetUser(), LocalDateTime.now(Clock.systemUTC()))
+        .stream()
+        .filter(meetingEntity -> meetingEntity.getMeetingSequence().equals(sequence))
+        .findFirst();
+    if (!scheduledMeeting.isPresent()) {
+      return Optional.empty();
+    }
+
+    this.meetingScheduleWriter.write(Collections.singletonList(scheduledMeeting.get()),
+        scheduledMeeting.get().getAttendees());
+    return this.meetingRepository.findByGroupEntityAndCurrentCycleAndMeetingSequence(groupEntity, cycle, sequence);
+  }
+
+  private void createMeetingSchedule(final GroupDefinitionEntity groupDefinitionEntity, final GroupEntity groupEntity) {
+    if (Cycle.Schedule.LAZY.name().equals(groupDefinitionEntity.getScheduleMode())) {
+      final Cycle.Frequency frequency = Cycle.Frequency.valueOf(groupDefinitionEntity.getFrequency());
+      groupEntity.setScheduleMode(Cycle.Schedule.LAZY.name());
+      groupEntity.setScheduleAnchor(MeetingScheduler.anchor(frequency, Group.Weekday.from(groupEntity.getWeekday()),
+          LocalDate.now(Clock.systemUTC())));
+      groupEntity.setScheduleFrequency(frequency.name());
+      groupEntity.setScheduleMeetings(groupDefinitionEntity.getNumberOfMeetings());
+      this.groupRepository.save(groupEntity);
+      return;
+    }
+
+    if (groupEntity.getScheduleMode() != null) {
+      groupEntity.setScheduleMode(null);
+      groupEntity.setScheduleAnchor(null);
+      groupEntity.setScheduleFrequency(null);
+      groupEntity.setScheduleMeetings(null);
+      this.groupRepository.save(groupEntity);
+    }
+
+    final Set<String> members = GroupMemberMapper.map(
+        this.groupMemberRepository.findByGroupIdAndRole(groupEntity.getId(), GroupMemberEntity.Role.MEMBER.name()),
+        GroupMemberEntity.Role.MEMBER);
+
+    final List<MeetingEntity> meetingEntities = MeetingScheduler.schedule(groupDefinitionEntity, groupEntity, members,
+        LocalDate.now(Clock.systemUTC()), UserContextHolder.checkedGetUser(), LocalDateTime.now(Clock.systemUTC()));
+    final List<AttendeeEntity> attendeeEntities = meetingEntities.stream()
+        .flatMap(meetingEntity -> meetingEntity.getAttendees().stream())
+        .collect(Collectors.toList());
+
+    this.meetingScheduleWriter.write(meetingEntities, attendeeEntities);
+  }
+
+  private void updateAddress(final AddressEntity addressEntity, final Address address) {
+    addressEntity.setStreet(address.getStreet());
+    addressEntity.setCity(address.getCity());
+    addressEntity.setRegion(address.getRegion());
+    addressEntity.setPostalCode(address.getPostalCode());
+    addressEntity.setCountry(address.getCountry());
+    addressEntity.setCountryCode(address.getCountryCode());
+  }
+
+  private void replaceMembers(final GroupEntity groupEntity, final Set<String> customerIdentifiers,
+                              final GroupMemberEntity.Role role) {
+    final List<GroupMemberEntity> currentMembers =
+        this.groupMemberRepository.findByGroupIdAndRole(groupEntity.getId(), role.name());
+
+    final List<GroupMemberEntity> removedMembers = currentMembers
+        .stream()
+        .filter(groupMemberEntity -> !customerIdentifiers.contains(groupMemberEntity.getCustomerIdentifier()))
+        .collect(Collectors.toList());
+    if (!removedMembers.isEmpty()) {
+      this.groupMemberRepository.deleteInBatch(removedMembers);
+    }
+
+    final Set<String> addedMembers = new HashSet<>(customerIdentifiers);
+    currentMembers.forEach(groupMemberEntity -> addedMembers.remove(groupMemberEntity.getCustomerIdentifier()));
+    this.groupMemberRepository.save(GroupMemberMapper.map(groupEntity.getId(), addedMembers, role));
+
+    if (role == GroupMemberEntity.Role.MEMBER) {
+      final LocalDate today = LocalDate.now(Clock.systemUTC());
+      this.meetingScheduleWriter.removeUpcomingAttendees(groupEntity, today,
+          removedMembers.stream().map(GroupMemberEntity::getCustomerIdentifier).collect(Collectors.toList()));
+      this.meetingScheduleWriter.addUpcomingAttendees(groupEntity, today, addedMembers);
     }
   }
 
@@ -416,6 +643,15 @@ public class GroupAggregate {
     this.groupCommandRepository.save(groupCommandEntity);
   }
 
+  private void invalidateAfterCommit(final String identifier) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+      @Override
+      public void afterCommit() {
+        GroupAggregate.this.groupService.invalidate(identifier);
+      }
+    });
+  }
+
     private GroupEntity findGroupEntityOrThrow(String identifier) {
         return this.groupRepository.findByIdentifier(identifier)
                 .orElseThrow(() -> ServiceException.notFound("Group ''{0}'' not found", identifier));
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.dispatch;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.apache.fineract.cn.api.util.UserContext;
+import org.apache.fineract.cn.api.util.UserContextHolder;
+import org.apache.fineract.cn.command.gateway.CommandGateway;
+import org.apache.fineract.cn.group.ServiceConstants;
+import org.apache.fineract.cn.group.internal.command.BulkGroupCommand;
+import org.apache.fineract.cn.group.internal.command.DefinitionScopedCommand;
+import org.apache.fineract.cn.group.internal.command.GroupScopedCommand;
+import org.apache.fineract.cn.group.internal.metrics.CommandMetricsAspect;
+import org.apache.fineract.cn.lang.TenantContextHolder;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GroupCommandDispatcher {
+
+  public enum Mode {
+    UNBOUNDED,
+    BOUNDED
+  }
+
+  private final Logger logger;
+  private final CommandGateway commandGateway;
+  private final Mode mode;
+  private final Semaphore permits;
+  private final int queueCapacity;
+  private final long retryAfterSeconds;
+  private final AtomicInteger queued = new AtomicInteger();
+  private final Meter rejections;
+  private final ExecutorService[] lanes;
+
+  @Autowired
+  public GroupCommandDispatcher(@Qualifier(ServiceConstants.LOGGER_NAME) final Logger logger,
+                                final CommandGateway commandGateway,
+                                final MetricRegistry metricRegistry,
+                                @Value("${group.commands.mode:BOUNDED}") final Mode mode,
+                                @Value("${group.commands.lanes:32}") final int laneCount,
+                                @Value("${group.commands.maxConcurrency:20}") final int maxConcurrency,
+                                @Value("${group.commands.queueCapacity:1000}") final int queueCapacity,
+                                @Value("${group.commands.retryAfter:1}") final long retryAfterSeconds,
+                                @Value("${group.commands.virtualThreads:false}") final boolean virtualThreads) {
+    super();
+    this.logger = logger;
+    this.commandGateway = commandGateway;
+    this.mode = mode;
+    this.permits = new Semaphore(maxConcurrency, true);
+    this.queueCapacity = queueCapacity;
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.rejections = metricRegistry.meter(MetricRegistry.name(CommandMetricsAspect.PREFIX, "rejected"));
+    metricRegistry.register(MetricRegistry.name(CommandMetricsAspect.PREFIX, "queue", "depth"),
+        (Gauge<Integer>) this.queued::get);
+    metricRegistry.register(MetricRegistry.name(CommandMetricsAspect.PREFIX, "permits", "available"),
+        (Gauge<Integer>) this.permits::availablePermits);
+    this.lanes = new ExecutorService[laneCount];
+    // lanes queue and await commands, the handlers themselves always run behind the command gateway
+    final ThreadFactory virtualThreadFactory = virtualThreads ? VirtualThreads.factory("group-lane-") : null;
+    for (int index = 0; index < laneCount; index++) {
+      final String threadName = "group-lane-" + index;
+      this.lanes[index] = Executors.newSingleThreadExecutor(virtualThreadFactory != null
+          ? virtualThreadFactory
+          : runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+          });
+    }
+    this.logger.info("Dispatching group commands on {} {} lanes in {} mode.", laneCount,
+        virtualThreads ? "virtual" : "platform", mode);
+  }
+
+  // a bulk command spanning several lanes is split into one part per lane, each processed on its own
+  public List<Object> split(final Object command) {
+    if (!(command instanceof BulkGroupCommand)) {
+      return Collections.singletonList(command);
+    }
+    final BulkGroupCommand bulkCommand = (BulkGroupCommand) command;
+    final Map<Integer, Set<String>> identifiersByLane = bulkCommand.groupIdentifiers()
+        .stream()
+        .collect(Collectors.groupingBy(this::laneOf, TreeMap::new, Collectors.toSet()));
+    if (identifiersByLane.size() < 2) {
+      return Collections.singletonList(command);
+    }
+    return identifiersByLane.values()
+        .stream()
+        .map(bulkCommand::partOf)
+        .collect(Collectors.toList());
+  }
+
+  private int laneOf(final String identifier) {
+    return Math.floorMod(identifier.hashCode(), this.lanes.length);
+  }
+
+  public void dispatch(final List<Object> commands) {
+    final Map<Object, Optional<Integer>> laneIndexes = new LinkedHashMap<>();
+    commands.forEach(command -> laneIndexes.put(command, this.laneIndex(command)));
+    this.reserve((int) laneIndexes.values().stream().filter(Optional::isPresent).count());
+    laneIndexes.forEach((command, laneIndex) -> {
+      if (laneIndex.isPresent()) {
+        this.lanes[laneIndex.get()].execute(this.dequeued(this.withCallerContext(() -> this.process(command))));
+      } else {
+        this.commandGateway.process(command);
+      }
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    for (final ExecutorService lane : this.lanes) {
+      lane.shutdown();
+    }
+    for (final ExecutorService lane : this.lanes) {
+      lane.awaitTermination(10L, TimeUnit.SECONDS);
+    }
+  }
+
+  private Optional<Integer> laneIndex(final Object command) {
+    if (command instanceof GroupScopedCommand) {
+      // only parts of bulk commands are split, anything else spanning lanes runs on the first of them
+      return ((GroupScopedCommand) command).groupIdentifiers()
+          .stream()
+          .map(this::laneOf)
+          .min(Integer::compare);
+    } else if (this.mode == Mode.BOUNDED && command instanceof DefinitionScopedCommand) {
+      // definition commands are not group scoped, but still count against the limits
+      return Optional.of(this.laneOf(((DefinitionScopedCommand) command).groupDefinitionIdentifier()));
+    }
+    return Optional.empty();
+  }
+
+  private void reserve(final int tasks) {
+    if (this.mode != Mode.BOUNDED) {
+      this.queued.addAndGet(tasks);
+      return;
+    }
+    if (this.queued.addAndGet(tasks) > this.queueCapacity) {
+      this.queued.addAndGet(-tasks);
+      this.rejections.mark();
+      throw new CommandRejectedException("Command queue is full, retry later.", this.retryAfterSeconds);
+    }
+  }
+
+  private Runnable dequeued(final Runnable task) {
+    return () -> {
+      this.queued.decrementAndGet();
+      task.run();
+    };
+  }
+
+  private void process(final Object command) {
+    try {
+      if (this.mode == Mode.BOUNDED) {
+        this.permits.acquire();
+      }
+      try {
+        this.commandGateway.process(command, Object.class).get();
+      } finally {
+        if (this.mode == Mode.BOUNDED) {
+          this.permits.release();
+        }
+      }
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } catch (final Exception ex) {
+      // lanes have no caller to hand the failure to, and only tracked commands keep a status of it
+      this.logger.warn("Command {} failed.", command.getClass().getSimpleName(), ex);
+    }
+  }
+
+  private Runnable withCallerContext(final Runnable task) {
+    final String tenant = TenantContextHolder.checkedGetIdentifier();
+    final Optional<UserContext> userContext = UserContextHolder.getUserContext();
+    return () -> {
+      TenantContextHolder.setIdentifier(tenant);
+      userContext.ifPresent(UserContextHolder::setUserContext);
+      try {
+        task.run();
+      } finally {
+        TenantContextHolder.clear();
+        UserContextHolder.clear();
+      }
+    };
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.dispatch;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+final class VirtualThreads {
+
+  private VirtualThreads() {
+    super();
+  }
+
+  // resolved reflectively, so the service keeps compiling and running on pre-21 JDKs
+  static ThreadFactory factory(final String prefix) {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      final Object namedBuilder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+      final Method factory = builderType.getMethod("factory");
+      return (ThreadFactory) factory.invoke(namedBuilder);
+    } catch (final ReflectiveOperationException ex) {
+      throw new IllegalStateException("Virtual threads require a JDK 21 or later runtime.", ex);
+    }
+  }
+}
@@ -47,6 +47,7 @@ public class GroupDefinitionMapper {
     cycle.setNumberOfMeetings(groupDefinitionEntity.getNumberOfMeetings());
     cycle.setFrequency(groupDefinitionEntity.getFrequency());
     cycle.setAdjustment(groupDefinitionEntity.getAdjustment());
+    cycle.setSchedule(groupDefinitionEntity.getScheduleMode());
     groupDefinition.setCycle(cycle);
 
     return groupDefinition;
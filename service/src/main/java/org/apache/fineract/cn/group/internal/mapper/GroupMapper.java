@@ -21,7 +21,6 @@ package org.apache.fineract.cn.group.internal.mapper;
 import org.apache.fineract.cn.group.api.v1.domain.Group;
 import org.apache.fineract.cn.group.internal.repository.GroupEntity;
 import org.apache.fineract.cn.lang.DateConverter;
-import org.springframework.util.StringUtils;
 
 public class GroupMapper {
 
@@ -29,13 +28,11 @@ public class GroupMapper {
     super();
   }
 
-  public static Group map(final GroupEntity groupEntity) {
+  public static Group map(final GroupEntity groupEntity, final String groupDefinitionIdentifier) {
     final Group group = new Group();
     group.setIdentifier(groupEntity.getIdentifier());
-    group.setGroupDefinitionIdentifier(groupEntity.getGroupDefinition().getIdentifier());
+    group.setGroupDefinitionIdentifier(groupDefinitionIdentifier);
     group.setName(groupEntity.getName());
-    group.setLeaders(StringUtils.commaDelimitedListToSet(groupEntity.getLeaders()));
-    group.setMembers(StringUtils.commaDelimitedListToSet(groupEntity.getMembers()));
     group.setOffice(groupEntity.getOffice());
     group.setAssignedEmployee(groupEntity.getAssignedEmployee());
     group.setWeekday(groupEntity.getWeekday());
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.mapper;
+
+import org.apache.fineract.cn.group.internal.repository.GroupMemberEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class GroupMemberMapper {
+
+  private GroupMemberMapper() {
+    super();
+  }
+
+  public static Set<String> map(final Collection<GroupMemberEntity> groupMemberEntities, final GroupMemberEntity.Role role) {
+    return groupMemberEntities
+        .stream()
+        .filter(groupMemberEntity -> role.name().equals(groupMemberEntity.getRole()))
+        .map(GroupMemberEntity::getCustomerIdentifier)
+        .collect(Collectors.toSet());
+  }
+
+  public static List<GroupMemberEntity> map(final Long groupId, final Collection<String> customerIdentifiers,
+                                            final GroupMemberEntity.Role role) {
+    return customerIdentifiers
+        .stream()
+        .map(customerIdentifier -> {
+          final GroupMemberEntity groupMemberEntity = new GroupMemberEntity();
+          groupMemberEntity.setGroupId(groupId);
+          groupMemberEntity.setCustomerIdentifier(customerIdentifier);
+          groupMemberEntity.setRole(role.name());
+          return groupMemberEntity;
+        })
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.metrics;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.apache.fineract.cn.lang.TenantContextHolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CommandMetricsAspect {
+
+  public static final String PREFIX = "group.command";
+
+  private final MetricRegistry metricRegistry;
+
+  @Autowired
+  public CommandMetricsAspect(final MetricRegistry metricRegistry) {
+    super();
+    this.metricRegistry = metricRegistry;
+  }
+
+  // ordered ahead of the transaction advice, so latency includes the commit
+  @Around("@annotation(org.apache.fineract.cn.command.annotation.CommandHandler)")
+  public Object measure(final ProceedingJoinPoint joinPoint) throws Throwable {
+    final String commandType = joinPoint.getArgs().length > 0 && joinPoint.getArgs()[0] != null
+        ? joinPoint.getArgs()[0].getClass().getSimpleName()
+        : joinPoint.getSignature().getName();
+    final String tenant = TenantContextHolder.identifier().orElse("unknown");
+
+    final Counter active = this.metricRegistry.counter(MetricRegistry.name(PREFIX, commandType, "active"));
+    final Timer.Context commandTimer = this.metricRegistry.timer(MetricRegistry.name(PREFIX, commandType, "latency")).time();
+    final Timer.Context tenantTimer = this.metricRegistry.timer(MetricRegistry.name(PREFIX, commandType, tenant, "latency")).time();
+    active.inc();
+    try {
+      return joinPoint.proceed();
+    } catch (final Throwable throwable) {
+      this.metricRegistry.meter(MetricRegistry.name(PREFIX, commandType, "errors")).mark();
+      this.metricRegistry.meter(MetricRegistry.name(PREFIX, commandType, tenant, "errors")).mark();
+      throw throwable;
+    } finally {
+      active.dec();
+      commandTimer.stop();
+      tenantTimer.stop();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.outbox;
+
+import com.google.gson.Gson;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.fineract.cn.lang.TenantContextHolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Repository
+public class EventOutbox {
+
+  private static final String LOCK_GROUP = "SELECT pg_advisory_xact_lock(1, hashtext(?))";
+  private static final String INSERT_EVENT =
+      "INSERT INTO ptah_event_outbox (selector_value, payload, created_on) VALUES (?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final EventRelay eventRelay;
+  private final Gson gson;
+
+  @Autowired
+  public EventOutbox(final DataSource dataSource, final EventRelay eventRelay) {
+    super();
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.eventRelay = eventRelay;
+    this.gson = new Gson();
+  }
+
+  public String add(final String selectorValue, final String identifier) {
+    this.lock(Collections.singletonList(identifier));
+    this.insert(selectorValue, this.gson.toJson(identifier));
+    return identifier;
+  }
+
+  public List<String> add(final String selectorValue, final List<String> identifiers) {
+    this.lock(identifiers);
+    this.insert(selectorValue, this.gson.toJson(identifiers));
+    return identifiers;
+  }
+
+  private void lock(final List<String> identifiers) {
+    // held until commit, so outbox ids of one group follow the commit order of its changes
+    identifiers.stream()
+        .distinct()
+        .sorted()
+        .forEach(identifier ->
+            this.jdbcTemplate.query(LOCK_GROUP, (RowCallbackHandler) resultSet -> { }, identifier));
+  }
+
+  private void insert(final String selectorValue, final String payload) {
+    this.jdbcTemplate.update(INSERT_EVENT, selectorValue, payload, Timestamp.valueOf(LocalDateTime.now(Clock.systemUTC())));
+
+    final String tenant = TenantContextHolder.checkedGetIdentifier();
+    this.eventRelay.register(tenant);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+      @Override
+      public void afterCommit() {
+        try {
+          EventOutbox.this.eventRelay.drainAsync();
+        } catch (final TaskRejectedException ignored) {
+          // the event stays in the outbox until the next sweep
+        }
+      }
+    });
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.outbox;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import org.apache.fineract.cn.group.ServiceConstants;
+import org.apache.fineract.cn.group.api.v1.EventConstants;
+import org.apache.fineract.cn.lang.AutoTenantContext;
+import org.apache.fineract.cn.lang.TenantContextHolder;
+import org.apache.fineract.cn.lang.config.TenantHeaderFilter;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class EventRelay {
+
+  private static final int BATCH_SIZE = 500;
+  private static final int LOCKED = -1;
+  private static final String TRY_LOCK_OUTBOX = "SELECT pg_try_advisory_xact_lock(2, 0)";
+  private static final String SELECT_EVENTS =
+      "SELECT id, selector_value, payload FROM ptah_event_outbox ORDER BY id LIMIT ?";
+  private static final String DELETE_EVENT = "DELETE FROM ptah_event_outbox WHERE id = ?";
+
+  private final Logger logger;
+  private final JmsTemplate jmsTemplate;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final long retryDelay;
+  private final ScheduledExecutorService retries;
+  private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+  private final Set<String> pendingRetries = ConcurrentHashMap.newKeySet();
+
+  @Autowired
+  public EventRelay(@Qualifier(ServiceConstants.LOGGER_NAME) final Logger logger,
+                    final JmsTemplate jmsTemplate,
+                    final DataSource dataSource,
+                    final PlatformTransactionManager transactionManager,
+                    @Value("${group.outbox.retryDelay:200}") final long retryDelay) {
+    super();
+    this.logger = logger;
+    this.jmsTemplate = jmsTemplate;
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.retryDelay = retryDelay;
+    this.retries = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "group-outbox-retry");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    this.retries.shutdownNow();
+  }
+
+  public void register(final String tenant) {
+    this.tenants.add(tenant);
+  }
+
+  @Async
+  public void drainAsync() {
+    final String tenant = TenantContextHolder.checkedGetIdentifier();
+    try {
+      if (!this.drain()) {
+        this.retry(tenant);
+      }
+    } catch (final RuntimeException ex) {
+      this.logger.warn("Could not relay events of tenant {}, retrying with next sweep.", tenant, ex);
+    }
+  }
+
+  // tenants are known once they wrote to the outbox, events a previous run left behind go out with the next write
+  @Scheduled(fixedDelayString = "${group.outbox.sweepDelay:5000}")
+  public void sweep() {
+    this.tenants.forEach(tenant -> {
+      try (final AutoTenantContext ignored = new AutoTenantContext(tenant)) {
+        this.drain();
+      } catch (final RuntimeException ex) {
+        this.logger.warn("Could not relay events of tenant {}.", tenant, ex);
+      }
+    });
+  }
+
+  // false if another relay held the outbox, it may have missed events committed after its last batch
+  public boolean drain() {
+    int relayed;
+    do {
+      relayed = this.transactionTemplate.execute(status -> this.relayBatch());
+    } while (relayed == BATCH_SIZE);
+    return relayed != LOCKED;
+  }
+
+  private void retry(final String tenant) {
+    if (!this.pendingRetries.add(tenant)) {
+      return;
+    }
+    this.retries.schedule(() -> {
+      this.pendingRetries.remove(tenant);
+      try (final AutoTenantContext ignored = new AutoTenantContext(tenant)) {
+        if (!this.drain()) {
+          this.retry(tenant);
+        }
+      } catch (final RuntimeException ex) {
+        this.logger.warn("Could not relay events of tenant {}, retrying with next sweep.", tenant, ex);
+      }
+    }, this.retryDelay, TimeUnit.MILLISECONDS);
+  }
+
+  private int relayBatch() {
+    if (!this.jdbcTemplate.queryForObject(TRY_LOCK_OUTBOX, Boolean.class)) {
+      return LOCKED;
+    }
+
+    final List<OutboxEvent> events = this.jdbcTemplate.query(SELECT_EVENTS,
+        (resultSet, rowNum) -> new OutboxEvent(resultSet.getLong("id"), resultSet.getString("selector_value"),
+            resultSet.getString("payload")),
+        BATCH_SIZE);
+    final String tenant = TenantContextHolder.checkedGetIdentifier();
+    events.forEach(event -> this.jmsTemplate.convertAndSend(EventConstants.DESTINATION, event.payload, message -> {
+      message.setStringProperty(TenantHeaderFilter.TENANT_HEADER, tenant);
+      message.setStringProperty(EventConstants.SELECTOR_NAME, event.selectorValue);
+      return message;
+    }));
+    this.jdbcTemplate.batchUpdate(DELETE_EVENT, events, BATCH_SIZE,
+        (ps, event) -> ps.setLong(1, event.id));
+    return events.size();
+  }
+
+  private static class OutboxEvent {
+
+    private final long id;
+    private final String selectorValue;
+    private final String payload;
+
+    private OutboxEvent(final long id, final String selectorValue, final String payload) {
+      super();
+      this.id = id;
+      this.selectorValue = selectorValue;
+      this.payload = payload;
+    }
+  }
+}
@@ -21,10 +21,13 @@ package org.apache.fineract.cn.group.internal.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AttendeeRepository extends JpaRepository<AttendeeEntity, Long> {
 
   List<AttendeeEntity> findByMeeting(final MeetingEntity meetingEntity);
+
+  List<AttendeeEntity> findByMeetingIn(final Collection<MeetingEntity> meetingEntities);
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class GroupBatchWriter {
+
+  private static final String INSERT_ADDRESS =
+      "INSERT INTO ptah_addresses (id, street, city, postal_code, region, country_code, country) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_GROUP =
+      "INSERT INTO ptah_groups (id, identifier, group_definition_id, a_name, office, assigned_employee, weekday, "
+          + "group_status, current_cycle, address_id, created_on, created_by) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_MEMBER =
+      "INSERT INTO ptah_group_members (id, group_id, customer_identifier, a_role) VALUES (?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public GroupBatchWriter(final DataSource dataSource) {
+    super();
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  public void write(final List<GroupEntity> groupEntities) {
+    final List<AddressEntity> addressEntities =
+        groupEntities.stream().map(GroupEntity::getAddressEntity).collect(Collectors.toList());
+    final Iterator<Long> addressIds =
+        JdbcBatches.nextIds(this.jdbcTemplate, "ptah_addresses_id_seq", addressEntities.size());
+    addressEntities.forEach(addressEntity -> addressEntity.setId(addressIds.next()));
+    this.jdbcTemplate.batchUpdate(INSERT_ADDRESS, addressEntities, JdbcBatches.BATCH_SIZE, (ps, addressEntity) -> {
+      ps.setLong(1, addressEntity.getId());
+      ps.setString(2, addressEntity.getStreet());
+      ps.setString(3, addressEntity.getCity());
+      ps.setString(4, addressEntity.getPostalCode());
+      ps.setString(5, addressEntity.getRegion());
+      ps.setString(6, addressEntity.getCountryCode());
+      ps.setString(7, addressEntity.getCountry());
+    });
+
+    final Iterator<Long> groupIds =
+        JdbcBatches.nextIds(this.jdbcTemplate, "ptah_groups_id_seq", groupEntities.size());
+    groupEntities.forEach(groupEntity -> groupEntity.setId(groupIds.next()));
+    this.jdbcTemplate.batchUpdate(INSERT_GROUP, groupEntities, JdbcBatches.BATCH_SIZE, (ps, groupEntity) -> {
+      ps.setLong(1, groupEntity.getId());
+      ps.setString(2, groupEntity.getIdentifier());
+      ps.setLong(3, groupEntity.getGroupDefinition().getId());
+      ps.setString(4, groupEntity.getName());
+      ps.setString(5, groupEntity.getOffice());
+      ps.setString(6, groupEntity.getAssignedEmployee());
+      ps.setObject(7, groupEntity.getWeekday(), Types.INTEGER);
+      ps.setString(8, groupEntity.getGroupStatus());
+      ps.setObject(9, groupEntity.getCurrentCycle(), Types.BIGINT);
+      ps.setLong(10, groupEntity.getAddressEntity().getId());
+      ps.setTimestamp(11, Timestamp.valueOf(groupEntity.getCreatedOn()));
+      ps.setString(12, groupEntity.getCreatedBy());
+    });
+  }
+
+  public void writeMembers(final List<GroupMemberEntity> groupMemberEntities) {
+    final Iterator<Long> memberIds =
+        JdbcBatches.nextIds(this.jdbcTemplate, "ptah_group_members_id_seq", groupMemberEntities.size());
+    groupMemberEntities.forEach(groupMemberEntity -> groupMemberEntity.setId(memberIds.next()));
+    this.jdbcTemplate.batchUpdate(INSERT_MEMBER, groupMemberEntities, JdbcBatches.BATCH_SIZE,
+        (ps, groupMemberEntity) -> {
+          ps.setLong(1, groupMemberEntity.getId());
+          ps.setLong(2, groupMemberEntity.getGroupId());
+          ps.setString(3, groupMemberEntity.getCustomerIdentifier());
+          ps.setString(4, groupMemberEntity.getRole());
+        });
+  }
+}
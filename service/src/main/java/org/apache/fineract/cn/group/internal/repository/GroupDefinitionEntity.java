@@ -50,6 +50,8 @@ public class GroupDefinitionEntity {
   private String frequency;
   @Column(name = "adjustment")
   private String adjustment;
+  @Column(name = "schedule_mode", nullable = false)
+  private String scheduleMode;
   @Column(name = "created_on", nullable = false)
   @Convert(converter = LocalDateTimeConverter.class)
   private LocalDateTime createdOn;
@@ -129,6 +131,14 @@ public class GroupDefinitionEntity {
     this.adjustment = adjustment;
   }
 
+  public String getScheduleMode() {
+    return this.scheduleMode;
+  }
+
+  public void setScheduleMode(final String scheduleMode) {
+    this.scheduleMode = scheduleMode;
+  }
+
   public LocalDateTime getCreatedOn() {
     return this.createdOn;
   }
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.cn.group.internal.repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Convert;
@@ -30,9 +31,13 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
+import org.apache.fineract.cn.postgresql.util.LocalDateConverter;
 import org.apache.fineract.cn.postgresql.util.LocalDateTimeConverter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Table(name = "ptah_groups")
 public class GroupEntity {
 
@@ -42,15 +47,13 @@ public class GroupEntity {
   private Long id;
   @Column(name = "identifier", nullable = false)
   private String identifier;
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "group_definition_id", nullable = false)
   private GroupDefinitionEntity groupDefinition;
+  @Column(name = "group_definition_id", insertable = false, updatable = false)
+  private Long groupDefinitionId;
   @Column(name = "a_name", nullable = false)
   private String name;
-  @Column(name = "leaders")
-  private String leaders;
-  @Column(name = "members", nullable = false)
-  private String members;
   @Column(name = "office", nullable = false)
   private String office;
   @OneToOne(fetch = FetchType.LAZY)
@@ -64,6 +67,15 @@ public class GroupEntity {
   private String groupStatus;
   @Column(name = "current_cycle", nullable = false)
   private Integer currentCycle = Integer.valueOf(0);
+  @Column(name = "schedule_mode")
+  private String scheduleMode;
+  @Column(name = "schedule_anchor")
+  @Convert(converter = LocalDateConverter.class)
+  private LocalDate scheduleAnchor;
+  @Column(name = "schedule_frequency")
+  private String scheduleFrequency;
+  @Column(name = "schedule_meetings")
+  private Integer scheduleMeetings;
   @Column(name = "created_on", nullable = false)
   @Convert(converter = LocalDateTimeConverter.class)
   private LocalDateTime createdOn;
@@ -74,6 +86,12 @@ public class GroupEntity {
   private LocalDateTime lastModifiedOn;
   @Column(name = "last_modified_by")
   private String lastModifiedBy;
+  // bumped by member and leader changes as well, they are part of the group's representation and entity tag
+  @Version
+  @Column(name = "a_version", nullable = false)
+  private Long version;
+  @Column(name = "change_txid", insertable = false, updatable = false)
+  private Long changeTxid;
 
   public GroupEntity() {
     super();
@@ -101,6 +119,11 @@ public class GroupEntity {
 
   public void setGroupDefinition(final GroupDefinitionEntity groupDefinition) {
     this.groupDefinition = groupDefinition;
+    this.groupDefinitionId = groupDefinition.getId();
+  }
+
+  public Long getGroupDefinitionId() {
+    return this.groupDefinitionId;
   }
 
   public String getName() {
@@ -111,22 +134,6 @@ public class GroupEntity {
     this.name = name;
   }
 
-  public String getLeaders() {
-    return this.leaders;
-  }
-
-  public void setLeaders(final String leaders) {
-    this.leaders = leaders;
-  }
-
-  public String getMembers() {
-    return this.members;
-  }
-
-  public void setMembers(final String members) {
-    this.members = members;
-  }
-
   public String getOffice() {
     return this.office;
   }
@@ -175,6 +182,38 @@ public class GroupEntity {
     this.currentCycle = currentCycle;
   }
 
+  public String getScheduleMode() {
+    return this.scheduleMode;
+  }
+
+  public void setScheduleMode(final String scheduleMode) {
+    this.scheduleMode = scheduleMode;
+  }
+
+  public LocalDate getScheduleAnchor() {
+    return this.scheduleAnchor;
+  }
+
+  public void setScheduleAnchor(final LocalDate scheduleAnchor) {
+    this.scheduleAnchor = scheduleAnchor;
+  }
+
+  public String getScheduleFrequency() {
+    return this.scheduleFrequency;
+  }
+
+  public void setScheduleFrequency(final String scheduleFrequency) {
+    this.scheduleFrequency = scheduleFrequency;
+  }
+
+  public Integer getScheduleMeetings() {
+    return this.scheduleMeetings;
+  }
+
+  public void setScheduleMeetings(final Integer scheduleMeetings) {
+    this.scheduleMeetings = scheduleMeetings;
+  }
+
   public LocalDateTime getCreatedOn() {
     return this.createdOn;
   }
@@ -206,4 +245,16 @@ public class GroupEntity {
   public void setLastModifiedBy(final String lastModifiedBy) {
     this.lastModifiedBy = lastModifiedBy;
   }
+
+  public Long getVersion() {
+    return this.version;
+  }
+
+  public void setVersion(final Long version) {
+    this.version = version;
+  }
+
+  public Long getChangeTxid() {
+    return this.changeTxid;
+  }
 }
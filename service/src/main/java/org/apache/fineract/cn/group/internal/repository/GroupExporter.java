@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.repository;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.apache.fineract.cn.group.api.v1.domain.Address;
+import org.apache.fineract.cn.group.api.v1.domain.Attendee;
+import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
+import org.apache.fineract.cn.group.api.v1.domain.Meeting;
+import org.apache.fineract.cn.lang.DateConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class GroupExporter {
+
+  private static final int FETCH_SIZE = 500;
+
+  private static final String SELECT_GROUPS =
+      "SELECT g.identifier, d.identifier AS definition_identifier, g.a_name, g.office, g.assigned_employee, "
+          + "g.weekday, g.group_status, g.created_on, g.created_by, g.last_modified_on, g.last_modified_by, "
+          + "a.street, a.city, a.region, a.postal_code, a.country_code, a.country, "
+          + "(SELECT array_agg(m.customer_identifier) FROM ptah_group_members m "
+          + "WHERE m.group_id = g.id AND m.a_role = 'LEADER') AS leaders, "
+          + "(SELECT array_agg(m.customer_identifier) FROM ptah_group_members m "
+          + "WHERE m.group_id = g.id AND m.a_role = 'MEMBER') AS members "
+          + "FROM ptah_groups g "
+          + "JOIN ptah_group_definitions d ON d.id = g.group_definition_id "
+          + "JOIN ptah_addresses a ON a.id = g.address_id "
+          + "ORDER BY g.id";
+  private static final String SELECT_COMMANDS =
+      "SELECT g.identifier AS group_identifier, c.a_action, c.note, c.created_on, c.created_by "
+          + "FROM ptah_group_commands c JOIN ptah_groups g ON g.id = c.group_id "
+          + "ORDER BY c.id";
+  private static final String SELECT_MEETINGS =
+      "SELECT g.identifier AS group_identifier, m.current_cycle, m.meeting_sequence, m.scheduled_for, m.held_on, "
+          + "m.duration, m.created_on, m.created_by "
+          + "FROM ptah_meetings m JOIN ptah_groups g ON g.id = m.group_id "
+          + "ORDER BY m.id";
+  private static final String SELECT_ATTENDEES =
+      "SELECT g.identifier AS group_identifier, m.current_cycle, m.meeting_sequence, a.customer_identifier, a.a_status "
+          + "FROM ptah_attendees a JOIN ptah_meetings m ON m.id = a.meeting_id JOIN ptah_groups g ON g.id = m.group_id "
+          + "ORDER BY a.id";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Gson gson;
+
+  @Autowired
+  public GroupExporter(final DataSource dataSource) {
+    super();
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    this.gson = new Gson();
+  }
+
+  @Transactional(readOnly = true)
+  public void exportGroups(final Writer writer) {
+    this.export(writer, SELECT_GROUPS, resultSet -> {
+      final Group group = new Group();
+      group.setIdentifier(resultSet.getString("identifier"));
+      group.setGroupDefinitionIdentifier(resultSet.getString("definition_identifier"));
+      group.setName(resultSet.getString("a_name"));
+      group.setLeaders(GroupExporter.toSet(resultSet.getArray("leaders")));
+      group.setMembers(GroupExporter.toSet(resultSet.getArray("members")));
+      group.setOffice(resultSet.getString("office"));
+      group.setAssignedEmployee(resultSet.getString("assigned_employee"));
+      group.setWeekday(resultSet.getInt("weekday"));
+      group.setStatus(resultSet.getString("group_status"));
+      group.setCreatedOn(DateConverter.toIsoString(resultSet.getTimestamp("created_on").toLocalDateTime()));
+      group.setCreatedBy(resultSet.getString("created_by"));
+      final Timestamp lastModifiedOn = resultSet.getTimestamp("last_modified_on");
+      if (lastModifiedOn != null) {
+        group.setLastModifiedOn(DateConverter.toIsoString(lastModifiedOn.toLocalDateTime()));
+        group.setLastModifiedBy(resultSet.getString("last_modified_by"));
+      }
+
+      final Address address = new Address();
+      address.setStreet(resultSet.getString("street"));
+      address.setCity(resultSet.getString("city"));
+      address.setRegion(resultSet.getString("region"));
+      address.setPostalCode(resultSet.getString("postal_code"));
+      address.setCountryCode(resultSet.getString("country_code"));
+      address.setCountry(resultSet.getString("country"));
+      group.setAddress(address);
+
+      return this.gson.toJsonTree(group).getAsJsonObject();
+    });
+  }
+
+  @Transactional(readOnly = true)
+  public void exportCommands(final Writer writer) {
+    this.export(writer, SELECT_COMMANDS, resultSet -> {
+      final GroupCommand groupCommand = new GroupCommand();
+      groupCommand.setAction(resultSet.getString("a_action"));
+      groupCommand.setNote(resultSet.getString("note"));
+      groupCommand.setCreatedOn(DateConverter.toIsoString(resultSet.getTimestamp("created_on").toLocalDateTime()));
+      groupCommand.setCreatedBy(resultSet.getString("created_by"));
+
+      final JsonObject line = this.gson.toJsonTree(groupCommand).getAsJsonObject();
+      line.addProperty("groupIdentifier", resultSet.getString("group_identifier"));
+      return line;
+    });
+  }
+
+  @Transactional(readOnly = true)
+  public void exportMeetings(final Writer writer) {
+    this.export(writer, SELECT_MEETINGS, resultSet -> {
+      final Meeting meeting = new Meeting();
+      meeting.setGroupIdentifier(resultSet.getString("group_identifier"));
+      meeting.setCurrentCycle(resultSet.getInt("current_cycle"));
+      meeting.setMeetingSequence(resultSet.getInt("meeting_sequence"));
+      meeting.setScheduledFor(DateConverter.toIsoString(resultSet.getDate("scheduled_for").toLocalDate()));
+      final Date heldOn = resultSet.getDate("held_on");
+      if (heldOn != null) {
+        meeting.setHeldOn(DateConverter.toIsoString(heldOn.toLocalDate()));
+      }
+      final long duration = resultSet.getLong("duration");
+      if (!resultSet.wasNull()) {
+        meeting.setDuration(duration);
+      }
+      meeting.setCreatedOn(DateConverter.toIsoString(resultSet.getTimestamp("created_on").toLocalDateTime()));
+      meeting.setCreatedBy(resultSet.getString("created_by"));
+
+      return this.gson.toJsonTree(meeting).getAsJsonObject();
+    });
+  }
+
+  @Transactional(readOnly = true)
+  public void exportAttendees(final Writer writer) {
+    this.export(writer, SELECT_ATTENDEES, resultSet -> {
+      final Attendee attendee = new Attendee();
+      attendee.setCustomerIdentifier(resultSet.getString("customer_identifier"));
+      attendee.setStatus(resultSet.getString("a_status"));
+
+      final JsonObject line = this.gson.toJsonTree(attendee).getAsJsonObject();
+      line.addProperty("groupIdentifier", resultSet.getString("group_identifier"));
+      line.addProperty("currentCycle", resultSet.getInt("current_cycle"));
+      line.addProperty("meetingSequence", resultSet.getInt("meeting_sequence"));
+      return line;
+    });
+  }
+
+  private void export(final Writer writer, final String sql, final LineMapper lineMapper) {
+    this.jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> {
+      try {
+        this.gson.toJson(lineMapper.map(resultSet), writer);
+        writer.write('\n');
+      } catch (final IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    });
+  }
+
+  private static Set<String> toSet(final Array array) throws SQLException {
+    if (array == null) {
+      return Collections.emptySet();
+    }
+    return new HashSet<>(Arrays.asList((String[]) array.getArray()));
+  }
+
+  @FunctionalInterface
+  private interface LineMapper {
+    JsonObject map(final ResultSet resultSet) throws SQLException;
+  }
+}
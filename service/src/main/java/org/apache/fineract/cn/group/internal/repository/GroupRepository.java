@@ -21,8 +21,13 @@ package org.apache.fineract.cn.group.internal.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -30,5 +35,41 @@ public interface GroupRepository extends JpaRepository<GroupEntity, Long> {
 
   Optional<GroupEntity> findByIdentifier(final String identifier);
 
+  @Query("SELECT CASE WHEN COUNT(g) > 0 THEN 'true' ELSE 'false' END FROM GroupEntity g WHERE g.identifier = :identifier")
+  Boolean existsByIdentifier(@Param("identifier") final String identifier);
+
+  @Query("SELECT g.version FROM GroupEntity g WHERE g.identifier = :identifier")
+  Optional<Long> findVersionByIdentifier(@Param("identifier") final String identifier);
+
+  List<GroupEntity> findByIdentifierIn(final Collection<String> identifiers);
+
+  @Query("SELECT g.identifier FROM GroupEntity g WHERE g.identifier IN :identifiers")
+  List<String> findIdentifiersIn(@Param("identifiers") final Collection<String> identifiers);
+
   Page<GroupEntity> findByAssignedEmployee(final String employee, final Pageable pageable);
+
+  List<GroupEntity> findByIdentifierGreaterThan(final String identifier, final Pageable pageable);
+
+  List<GroupEntity> findByAssignedEmployeeAndIdentifierGreaterThan(final String employee, final String identifier,
+                                                                   final Pageable pageable);
+
+  @Query(value = "SELECT * FROM ptah_groups g "
+      + "WHERE (g.change_txid, g.identifier) > (:changeTxid, :identifier) "
+      + "AND g.change_txid < txid_snapshot_xmin(txid_current_snapshot()) "
+      + "ORDER BY g.change_txid, g.identifier LIMIT :size", nativeQuery = true)
+  List<GroupEntity> findChangedAfter(@Param("changeTxid") final Long changeTxid,
+                                     @Param("identifier") final String identifier,
+                                     @Param("size") final int size);
+
+  @Query(value = "SELECT LEAST(MIN(g.change_txid), txid_snapshot_xmin(txid_current_snapshot())) FROM ptah_groups g "
+      + "WHERE COALESCE(g.last_modified_on, g.created_on) >= :changedOn", nativeQuery = true)
+  Number findFirstChangeTxidSince(@Param("changedOn") final Timestamp changedOn);
+
+  @Query("SELECT g FROM GroupEntity g JOIN FETCH g.addressEntity WHERE g.assignedEmployee = :employee AND g.scheduleMode = :scheduleMode AND g.groupStatus = :groupStatus")
+  List<GroupEntity> findByAssignedEmployeeAndScheduleModeAndGroupStatus(@Param("employee") final String employee,
+                                                                        @Param("scheduleMode") final String scheduleMode,
+                                                                        @Param("groupStatus") final String groupStatus);
+
+  @Query("SELECT g FROM GroupEntity g, GroupMemberEntity m WHERE m.groupId = g.id AND m.customerIdentifier = :customerIdentifier AND m.role = 'MEMBER'")
+  Page<GroupEntity> findByMember(@Param("customerIdentifier") final String customerIdentifier, final Pageable pageable);
 }
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.repository;
+
+import java.util.Collections;
+import java.util.Iterator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+final class JdbcBatches {
+
+  static final int BATCH_SIZE = 500;
+
+  private static final String NEXT_IDS =
+      "SELECT nextval(?::regclass) FROM generate_series(1, ?)";
+
+  private JdbcBatches() {
+    super();
+  }
+
+  // fetches a whole block of sequence values in one round trip instead of one per inserted row
+  static Iterator<Long> nextIds(final JdbcTemplate jdbcTemplate, final String sequence, final int count) {
+    if (count == 0) {
+      return Collections.emptyIterator();
+    }
+    return jdbcTemplate.queryForList(NEXT_IDS, Long.class, sequence, count).iterator();
+  }
+}
@@ -20,6 +20,7 @@ package org.apache.fineract.cn.group.internal.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
@@ -29,6 +30,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
 import javax.persistence.Table;
 import org.apache.fineract.cn.postgresql.util.LocalDateConverter;
 import org.apache.fineract.cn.postgresql.util.LocalDateTimeConverter;
@@ -61,6 +63,8 @@ public class MeetingEntity {
   private LocalDateTime createdOn;
   @Column(name = "created_by", nullable = false)
   private String createdBy;
+  @OneToMany(mappedBy = "meeting", fetch = FetchType.LAZY)
+  private List<AttendeeEntity> attendees;
 
   public MeetingEntity() {
     super();
@@ -137,4 +141,12 @@ public class MeetingEntity {
   public void setCreatedBy(final String createdBy) {
     this.createdBy = createdBy;
   }
+
+  public List<AttendeeEntity> getAttendees() {
+    return this.attendees;
+  }
+
+  public void setAttendees(final List<AttendeeEntity> attendees) {
+    this.attendees = attendees;
+  }
 }
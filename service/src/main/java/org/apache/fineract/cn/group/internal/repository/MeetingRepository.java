@@ -21,21 +21,45 @@ package org.apache.fineract.cn.group.internal.repository;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import javax.persistence.Convert;
+import javax.persistence.QueryHint;
 import org.apache.fineract.cn.postgresql.util.LocalDateConverter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MeetingRepository extends JpaRepository<MeetingEntity, Long> {
 
   @Convert(converter = LocalDateConverter.class)
-  List<MeetingEntity> findTopByGroupEntityAndScheduledForAfter(final GroupEntity groupEntity, final LocalDate date);
+  Optional<MeetingEntity> findFirstByGroupEntityAndScheduledForAfterOrderByScheduledForAsc(
+      final GroupEntity groupEntity, final LocalDate date);
 
   List<MeetingEntity> findByGroupEntityAndCurrentCycleOrderByMeetingSequenceDesc(
       final GroupEntity groupEntity, final Integer currentCycle);
 
   List<MeetingEntity> findByGroupEntityOrderByCurrentCycleDescMeetingSequenceDesc(final GroupEntity groupEntity);
 
+  @Query("SELECT DISTINCT m FROM MeetingEntity m LEFT JOIN FETCH m.attendees WHERE m.groupEntity = :groupEntity ORDER BY m.currentCycle DESC, m.meetingSequence DESC")
+  List<MeetingEntity> findWithAttendeesByGroupEntity(@Param("groupEntity") final GroupEntity groupEntity);
+
+  @Query("SELECT m FROM MeetingEntity m JOIN FETCH m.groupEntity g JOIN FETCH g.addressEntity "
+      + "WHERE g.assignedEmployee = :employee AND m.scheduledFor BETWEEN :fromDate AND :toDate "
+      + "ORDER BY m.scheduledFor ASC, g.identifier ASC")
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+  Stream<MeetingEntity> streamByAssignedEmployeeAndScheduledForBetween(@Param("employee") final String employee,
+                                                                       @Param("fromDate") final LocalDate fromDate,
+                                                                       @Param("toDate") final LocalDate toDate);
+
+  @Query("SELECT m.groupEntity.id, m.currentCycle, m.meetingSequence FROM MeetingEntity m "
+      + "WHERE m.groupEntity IN :groupEntities AND m.scheduledFor BETWEEN :fromDate AND :toDate")
+  List<Object[]> findKeysByGroupEntityInAndScheduledForBetween(
+      @Param("groupEntities") final List<GroupEntity> groupEntities,
+      @Param("fromDate") final LocalDate fromDate,
+      @Param("toDate") final LocalDate toDate);
+
   Optional<MeetingEntity> findByGroupEntityAndCurrentCycleAndMeetingSequence(final GroupEntity groupEntity, final Integer cycle, final Integer sequence);
 }
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.apache.fineract.cn.group.api.v1.domain.Attendee;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MeetingScheduleWriter {
+
+  private static final String INSERT_MEETING =
+      "INSERT INTO ptah_meetings (id, group_id, meeting_sequence, current_cycle, scheduled_for, created_on, created_by) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_ATTENDEE =
+      "INSERT INTO ptah_attendees (id, meeting_id, customer_identifier, a_status) VALUES (?, ?, ?, ?)";
+  private static final String INSERT_UPCOMING_ATTENDEE =
+      "INSERT INTO ptah_attendees (meeting_id, customer_identifier, a_status) "
+          + "SELECT m.id, ?, ? FROM ptah_meetings m "
+          + "WHERE m.group_id = ? AND m.current_cycle = ? AND m.held_on IS NULL AND m.scheduled_for >= ? "
+          + "AND NOT EXISTS (SELECT 1 FROM ptah_attendees a WHERE a.meeting_id = m.id AND a.customer_identifier = ?)";
+  private static final String DELETE_UPCOMING_ATTENDEE =
+      "DELETE FROM ptah_attendees WHERE customer_identifier = ? AND meeting_id IN ("
+          + "SELECT m.id FROM ptah_meetings m "
+          + "WHERE m.group_id = ? AND m.current_cycle = ? AND m.held_on IS NULL AND m.scheduled_for >= ?)";
+  private static final String UPDATE_ATTENDEE_STATUS =
+      "UPDATE ptah_attendees SET a_status = ? WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  public MeetingScheduleWriter(final DataSource dataSource) {
+    super();
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  public void write(final List<MeetingEntity> meetingEntities, final List<AttendeeEntity> attendeeEntities) {
+    final Iterator<Long> meetingIds =
+        JdbcBatches.nextIds(this.jdbcTemplate, "ptah_meetings_id_seq", meetingEntities.size());
+    meetingEntities.forEach(meetingEntity -> meetingEntity.setId(meetingIds.next()));
+    this.jdbcTemplate.batchUpdate(INSERT_MEETING, meetingEntities, JdbcBatches.BATCH_SIZE, (ps, meetingEntity) -> {
+      ps.setLong(1, meetingEntity.getId());
+      ps.setLong(2, meetingEntity.getGroupEntity().getId());
+      ps.setLong(3, meetingEntity.getMeetingSequence());
+      ps.setLong(4, meetingEntity.getCurrentCycle());
+      ps.setDate(5, Date.valueOf(meetingEntity.getScheduledFor()));
+      ps.setTimestamp(6, Timestamp.valueOf(meetingEntity.getCreatedOn()));
+      ps.setString(7, meetingEntity.getCreatedBy());
+    });
+
+    this.writeAttendees(attendeeEntities);
+  }
+
+  public void writeAttendees(final List<AttendeeEntity> attendeeEntities) {
+    final Iterator<Long> attendeeIds =
+        JdbcBatches.nextIds(this.jdbcTemplate, "ptah_attendees_id_seq", attendeeEntities.size());
+    attendeeEntities.forEach(attendeeEntity -> attendeeEntity.setId(attendeeIds.next()));
+    this.jdbcTemplate.batchUpdate(INSERT_ATTENDEE, attendeeEntities, JdbcBatches.BATCH_SIZE, (ps, attendeeEntity) -> {
+      ps.setLong(1, attendeeEntity.getId());
+      ps.setLong(2, attendeeEntity.getMeeting().getId());
+      ps.setString(3, attendeeEntity.getCustomerIdentifier());
+      ps.setString(4, attendeeEntity.getStatus());
+    });
+  }
+
+  public void addUpcomingAttendees(final GroupEntity groupEntity, final LocalDate from,
+                                   final Collection<String> customerIdentifiers) {
+    if (groupEntity.getCurrentCycle() == null || customerIdentifiers.isEmpty()) {
+      return;
+    }
+    this.jdbcTemplate.batchUpdate(INSERT_UPCOMING_ATTENDEE, new ArrayList<>(customerIdentifiers),
+        JdbcBatches.BATCH_SIZE,
+        (ps, customerIdentifier) -> {
+          ps.setString(1, customerIdentifier);
+          ps.setString(2, Attendee.Status.EXPECTED.name());
+          ps.setLong(3, groupEntity.getId());
+          ps.setInt(4, groupEntity.getCurrentCycle());
+          ps.setDate(5, Date.valueOf(from));
+          ps.setString(6, customerIdentifier);
+        });
+  }
+
+  public void removeUpcomingAttendees(final GroupEntity groupEntity, final LocalDate from,
+                                      final Collection<String> customerIdentifiers) {
+    if (groupEntity.getCurrentCycle() == null || customerIdentifiers.isEmpty()) {
+      return;
+    }
+    this.jdbcTemplate.batchUpdate(DELETE_UPCOMING_ATTENDEE, new ArrayList<>(customerIdentifiers),
+        JdbcBatches.BATCH_SIZE,
+        (ps, customerIdentifier) -> {
+          ps.setString(1, customerIdentifier);
+          ps.setLong(2, groupEntity.getId());
+          ps.setInt(3, groupEntity.getCurrentCycle());
+          ps.setDate(4, Date.valueOf(from));
+        });
+  }
+
+  public void updateAttendeeStatuses(final Map<Long, String> statusesByAttendeeId) {
+    this.jdbcTemplate.batchUpdate(UPDATE_ATTENDEE_STATUS, new ArrayList<>(statusesByAttendeeId.entrySet()),
+        JdbcBatches.BATCH_SIZE,
+        (ps, entry) -> {
+          ps.setString(1, entry.getValue());
+          ps.setLong(2, entry.getKey());
+        });
+  }
+}
@@ -21,10 +21,13 @@ package org.apache.fineract.cn.group.internal.service;
 import org.apache.fineract.cn.group.api.v1.domain.GroupDefinition;
 import org.apache.fineract.cn.group.ServiceConstants;
 import org.apache.fineract.cn.group.internal.mapper.GroupDefinitionMapper;
+import org.apache.fineract.cn.group.internal.repository.GroupDefinitionEntity;
 import org.apache.fineract.cn.group.internal.repository.GroupDefinitionRepository;
+import com.codahale.metrics.MetricRegistry;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -36,13 +39,23 @@ public class GroupDefinitionService {
 
   private final Logger logger;
   private final GroupDefinitionRepository groupDefinitionRepository;
+  private final TenantScopedCache<CachedGroupDefinition> groupDefinitionCache;
+  private final TenantScopedCache<String> groupDefinitionIdentifierCache;
 
   @Autowired
   public GroupDefinitionService(@Qualifier(ServiceConstants.LOGGER_NAME) final Logger logger,
-                                final GroupDefinitionRepository groupDefinitionRepository) {
+                                final GroupDefinitionRepository groupDefinitionRepository,
+                                final MetricRegistry metricRegistry,
+                                @Value("${group.definitionCache.maximumSize:256}") final int maximumCacheSize,
+                                @Value("${group.definitionCache.timeToLive:60}") final long cacheTimeToLive) {
     super();
     this.logger = logger;
     this.groupDefinitionRepository = groupDefinitionRepository;
+    this.groupDefinitionCache =
+        new TenantScopedCache<>("group.definitions.cache", maximumCacheSize, cacheTimeToLive, metricRegistry);
+    // identifiers of definitions never change, so these entries need no time to live
+    this.groupDefinitionIdentifierCache =
+        new TenantScopedCache<>("group.definitions.identifiers.cache", maximumCacheSize, metricRegistry);
   }
 
   public Boolean groupDefinitionExists(final String identifier) {
@@ -50,7 +63,21 @@ public class GroupDefinitionService {
   }
 
   public Optional<GroupDefinition> findByIdentifier(final String identifier) {
-    return this.groupDefinitionRepository.findByIdentifier(identifier).map(GroupDefinitionMapper::map);
+    return this.findCached(identifier).map(cached -> cached.groupDefinition);
+  }
+
+  public Optional<GroupDefinitionEntity> findReference(final String identifier) {
+    return this.findCached(identifier).map(cached -> this.groupDefinitionRepository.getOne(cached.id));
+  }
+
+  public String findIdentifier(final Long id) {
+    return this.groupDefinitionIdentifierCache.get(String.valueOf(id),
+        key -> Optional.ofNullable(this.groupDefinitionRepository.findOne(id)).map(GroupDefinitionEntity::getIdentifier))
+        .orElseThrow(() -> new IllegalStateException("Group definition " + id + " not found."));
+  }
+
+  public void invalidate(final String identifier) {
+    this.groupDefinitionCache.evict(identifier);
   }
 
   public List<GroupDefinition> fetchAllGroupDefinitions() {
@@ -59,4 +86,23 @@ public class GroupDefinitionService {
         .map(GroupDefinitionMapper::map)
         .collect(Collectors.toList());
   }
+
+  private Optional<CachedGroupDefinition> findCached(final String identifier) {
+    return this.groupDefinitionCache.get(identifier,
+        key -> this.groupDefinitionRepository.findByIdentifier(key)
+            .map(groupDefinitionEntity -> new CachedGroupDefinition(groupDefinitionEntity.getId(),
+                GroupDefinitionMapper.map(groupDefinitionEntity))));
+  }
+
+  private static class CachedGroupDefinition {
+
+    private final Long id;
+    private final GroupDefinition groupDefinition;
+
+    CachedGroupDefinition(final Long id, final GroupDefinition groupDefinition) {
+      super();
+      this.id = id;
+      this.groupDefinition = groupDefinition;
+    }
+  }
 }
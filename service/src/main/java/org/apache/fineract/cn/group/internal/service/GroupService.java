@@ -18,6 +18,8 @@
  */
 package org.apache.fineract.cn.group.internal.service;
 
+import org.apache.fineract.cn.group.api.v1.domain.Address;
+import org.apache.fineract.cn.group.api.v1.domain.Cycle;
 import org.apache.fineract.cn.group.api.v1.domain.Group;
 import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
 import org.apache.fineract.cn.group.api.v1.domain.GroupPage;
@@ -27,54 +29,101 @@ import org.apache.fineract.cn.group.internal.mapper.AddressMapper;
 import org.apache.fineract.cn.group.internal.mapper.AttendeeMapper;
 import org.apache.fineract.cn.group.internal.mapper.GroupCommandMapper;
 import org.apache.fineract.cn.group.internal.mapper.GroupMapper;
+import org.apache.fineract.cn.group.internal.mapper.GroupMemberMapper;
 import org.apache.fineract.cn.group.internal.mapper.MeetingMapper;
+import org.apache.fineract.cn.group.internal.repository.AttendeeEntity;
 import org.apache.fineract.cn.group.internal.repository.AttendeeRepository;
 import org.apache.fineract.cn.group.internal.repository.GroupCommandRepository;
 import org.apache.fineract.cn.group.internal.repository.GroupEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupMemberEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupMemberRepository;
 import org.apache.fineract.cn.group.internal.repository.GroupRepository;
 import org.apache.fineract.cn.group.internal.repository.MeetingEntity;
 import org.apache.fineract.cn.group.internal.repository.MeetingRepository;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import javax.persistence.EntityManager;
 import org.apache.fineract.cn.lang.ServiceException;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class GroupService {
 
+  private static final int MEETING_CHUNK_SIZE = 500;
+
   private final Logger logger;
   private final GroupRepository groupRepository;
   private final GroupCommandRepository groupCommandRepository;
   private final MeetingRepository meetingRepository;
   private final AttendeeRepository attendeeRepository;
+  private final GroupMemberRepository groupMemberRepository;
+  private final GroupDefinitionService groupDefinitionService;
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+  private final TenantScopedCache<RenderedGroup> renderedGroupCache;
 
   @Autowired
   public GroupService(@Qualifier(ServiceConstants.LOGGER_NAME) final Logger logger,
                       final GroupRepository groupRepository,
                       final GroupCommandRepository groupCommandRepository,
                       final MeetingRepository meetingRepository,
-                      final AttendeeRepository attendeeRepository) {
+                      final AttendeeRepository attendeeRepository,
+                      final GroupMemberRepository groupMemberRepository,
+                      final GroupDefinitionService groupDefinitionService,
+                      final EntityManager entityManager,
+                      final ObjectMapper objectMapper,
+                      final MetricRegistry metricRegistry,
+                      @Value("${group.renderedGroupCache.maximumSize:4096}") final int maximumCacheSize) {
     super();
     this.logger = logger;
     this.groupRepository = groupRepository;
     this.groupCommandRepository = groupCommandRepository;
     this.meetingRepository = meetingRepository;
     this.attendeeRepository = attendeeRepository;
+    this.groupMemberRepository = groupMemberRepository;
+    this.groupDefinitionService = groupDefinitionService;
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+    this.renderedGroupCache = new TenantScopedCache<>("group.groups.cache", maximumCacheSize, metricRegistry);
   }
 
   public Optional<Group> findByIdentifier(final String identifier) {
     final Optional<GroupEntity> optionalGroup = this.groupRepository.findByIdentifier(identifier);
     if (optionalGroup.isPresent()) {
       final GroupEntity groupEntity = optionalGroup.get();
-      final Group group = GroupMapper.map(groupEntity);
+      final Group group = GroupMapper.map(groupEntity,
+          this.groupDefinitionService.findIdentifier(groupEntity.getGroupDefinitionId()));
+      this.setMembers(group, this.groupMemberRepository.findByGroupId(groupEntity.getId()));
       group.setAddress(AddressMapper.map(groupEntity.getAddressEntity()));
       return Optional.of(group);
     } else {
@@ -82,6 +131,36 @@ public class GroupService {
     }
   }
 
+  public Boolean groupExists(final String identifier) {
+    return this.groupRepository.existsByIdentifier(identifier);
+  }
+
+  public Optional<byte[]> findRenderedGroup(final String identifier, final Long version) {
+    final Optional<RenderedGroup> renderedGroup =
+        this.renderedGroupCache.get(identifier, key -> this.renderGroup(key, version));
+    if (renderedGroup.isPresent() && !renderedGroup.get().version.equals(version)) {
+      this.renderedGroupCache.evict(identifier);
+      return this.renderedGroupCache.get(identifier, key -> this.renderGroup(key, version))
+          .map(rendered -> rendered.content);
+    }
+    return renderedGroup.map(rendered -> rendered.content);
+  }
+
+  public void invalidate(final String identifier) {
+    this.renderedGroupCache.evict(identifier);
+  }
+
+  public Optional<Long> findVersion(final String identifier) {
+    return this.groupRepository.findVersionByIdentifier(identifier);
+  }
+
+  public Set<String> findExistingIdentifiers(final Collection<String> identifiers) {
+    if (identifiers.isEmpty()) {
+      return Collections.emptySet();
+    }
+    return new HashSet<>(this.groupRepository.findIdentifiersIn(identifiers));
+  }
+
   public GroupPage fetchGroups(final String employee, final Pageable pageable) {
     final Page<GroupEntity> page;
     if (employee != null) {
@@ -89,15 +168,59 @@ public class GroupService {
     } else {
       page = this.groupRepository.findAll(pageable);
     }
+    return this.createGroupPage(page);
+  }
+
+  public GroupPage fetchGroupsAfter(final String employee, final String after, final int size) {
+    // one extra row tells whether another page follows, so no COUNT(*) is needed
+    final Pageable pageable = new PageRequest(0, size + 1, Sort.Direction.ASC, "identifier");
+    final List<GroupEntity> groupEntities;
+    if (employee != null) {
+      groupEntities = this.groupRepository.findByAssignedEmployeeAndIdentifierGreaterThan(employee, after, pageable);
+    } else {
+      groupEntities = this.groupRepository.findByIdentifierGreaterThan(after, pageable);
+    }
 
     final GroupPage groupPage = new GroupPage();
-    groupPage.setGroups(page.map(GroupMapper::map).getContent());
-    groupPage.setTotalPages(page.getTotalPages());
-    groupPage.setTotalElements(page.getTotalElements());
+    if (groupEntities.size() > size) {
+      final List<GroupEntity> currentPage = groupEntities.subList(0, size);
+      groupPage.setGroups(this.mapGroups(currentPage));
+      groupPage.setNextCursor(currentPage.get(size - 1).getIdentifier());
+    } else {
+      groupPage.setGroups(this.mapGroups(groupEntities));
+    }
+    return groupPage;
+  }
+
+  public GroupPage fetchGroupChanges(final LocalDateTime since, final String cursor, final int size) {
+    final Long changeTxid;
+    final String identifier;
+    if (cursor != null) {
+      final String[] position = GroupService.decodeCursor(cursor);
+      changeTxid = Long.valueOf(position[0]);
+      identifier = position[1];
+    } else {
+      changeTxid = this.groupRepository.findFirstChangeTxidSince(Timestamp.valueOf(since)).longValue();
+      identifier = "";
+    }
+
+    final List<GroupEntity> groupEntities = this.groupRepository.findChangedAfter(changeTxid, identifier, size);
 
+    final GroupPage groupPage = new GroupPage();
+    groupPage.setGroups(this.mapGroups(groupEntities));
+    if (groupEntities.isEmpty()) {
+      groupPage.setNextCursor(GroupService.encodeCursor(changeTxid, identifier));
+    } else {
+      final GroupEntity last = groupEntities.get(groupEntities.size() - 1);
+      groupPage.setNextCursor(GroupService.encodeCursor(last.getChangeTxid(), last.getIdentifier()));
+    }
     return groupPage;
   }
 
+  public GroupPage fetchGroupsByMember(final String customerIdentifier, final Pageable pageable) {
+    return this.createGroupPage(this.groupRepository.findByMember(customerIdentifier, pageable));
+  }
+
   public List<GroupCommand> findCommandsByIdentifier(final String identifier) {
     final GroupEntity groupEntity =
         this.groupRepository.findByIdentifier(identifier)
@@ -108,29 +231,242 @@ public class GroupService {
         .collect(Collectors.toList());
   }
 
-  public List<Meeting> findMeetings(final String identifier, final Boolean upcoming) {
+  public List<Meeting> findMeetings(final String identifier, final Boolean upcoming, final Boolean attendees) {
     final GroupEntity groupEntity = this.groupRepository.findByIdentifier(identifier)
         .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", identifier));
 
-    final List<MeetingEntity> meetings;
+    final Address location = AddressMapper.map(groupEntity.getAddressEntity());
+
+    if (Cycle.Schedule.LAZY.name().equals(groupEntity.getScheduleMode())) {
+      return this.findLazyMeetings(groupEntity, upcoming, attendees, location);
+    }
+
     if (upcoming) {
-      meetings = this.meetingRepository.findTopByGroupEntityAndScheduledForAfter(groupEntity, LocalDate.now(Clock.systemUTC()));
-    } else {
-      meetings = this.meetingRepository.findByGroupEntityOrderByCurrentCycleDescMeetingSequenceDesc(groupEntity);
+      return this.meetingRepository
+          .findFirstByGroupEntityAndScheduledForAfterOrderByScheduledForAsc(groupEntity, LocalDate.now(Clock.systemUTC()))
+          .map(meetingEntity -> Collections.singletonList(this.createMeeting(groupEntity, meetingEntity,
+              attendees ? this.attendeeRepository.findByMeeting(meetingEntity) : null, location)))
+          .orElse(Collections.emptyList());
     }
 
-    return meetings
+    if (!attendees) {
+      return this.meetingRepository.findByGroupEntityOrderByCurrentCycleDescMeetingSequenceDesc(groupEntity)
+          .stream()
+          .map(meetingEntity -> this.createMeeting(groupEntity, meetingEntity, null, location))
+          .collect(Collectors.toList());
+    }
+
+    return this.meetingRepository.findWithAttendeesByGroupEntity(groupEntity)
         .stream()
-        .map(meetingEntity -> {
-          final Meeting meeting = MeetingMapper.map(meetingEntity);
-          meeting.setGroupIdentifier(groupEntity.getIdentifier());
-          meeting.setAttendees(
-              this.attendeeRepository.findByMeeting(meetingEntity)
-                  .stream().map(AttendeeMapper::map).collect(Collectors.toSet())
-          );
-          meeting.setLocation(AddressMapper.map(groupEntity.getAddressEntity()));
-          return meeting;
+        .map(meetingEntity -> this.createMeeting(groupEntity, meetingEntity, meetingEntity.getAttendees(), location))
+        .collect(Collectors.toList());
+  }
+
+  // meetings are handed to the consumer one by one in schedule order, so a wide range never sits in memory at once
+  @Transactional(readOnly = true)
+  public void streamMeetingsByEmployee(final String employee, final LocalDate fromDate, final LocalDate toDate,
+                                       final Boolean attendees, final Consumer<Meeting> consumer) {
+    final Comparator<MeetingEntity> scheduleOrder = Comparator.comparing(MeetingEntity::getScheduledFor)
+        .thenComparing(meetingEntity -> meetingEntity.getGroupEntity().getIdentifier());
+    final Deque<MeetingEntity> pendingLazyMeetings =
+        new ArrayDeque<>(this.findLazyMeetingsByEmployee(employee, fromDate, toDate, attendees, scheduleOrder));
+
+    final List<MeetingEntity> chunk = new ArrayList<>(MEETING_CHUNK_SIZE);
+    final Consumer<List<MeetingEntity>> emitChunk = meetingEntities -> {
+      final Map<Long, List<AttendeeEntity>> attendeesByMeeting = attendees
+          ? this.attendeeRepository.findByMeetingIn(meetingEntities)
+              .stream()
+              .collect(Collectors.groupingBy(attendeeEntity -> attendeeEntity.getMeeting().getId()))
+          : Collections.emptyMap();
+      meetingEntities.forEach(meetingEntity -> {
+        while (!pendingLazyMeetings.isEmpty()
+            && scheduleOrder.compare(pendingLazyMeetings.peekFirst(), meetingEntity) < 0) {
+          consumer.accept(this.createMeeting(pendingLazyMeetings.pollFirst(), attendees));
+        }
+        consumer.accept(this.createMeeting(meetingEntity.getGroupEntity(), meetingEntity,
+            attendees ? attendeesByMeeting.getOrDefault(meetingEntity.getId(), Collections.emptyList()) : null,
+            AddressMapper.map(meetingEntity.getGroupEntity().getAddressEntity())));
+      });
+      // streamed meetings are not needed anymore, keep the persistence context from growing with the range
+      this.entityManager.clear();
+    };
+
+    try (final Stream<MeetingEntity> meetingStream =
+             this.meetingRepository.streamByAssignedEmployeeAndScheduledForBetween(employee, fromDate, toDate)) {
+      meetingStream.forEach(meetingEntity -> {
+        chunk.add(meetingEntity);
+        if (chunk.size() == MEETING_CHUNK_SIZE) {
+          emitChunk.accept(chunk);
+          chunk.clear();
+        }
+      });
+    }
+    if (!chunk.isEmpty()) {
+      emitChunk.accept(chunk);
+    }
+    pendingLazyMeetings.forEach(meetingEntity -> consumer.accept(this.createMeeting(meetingEntity, attendees)));
+  }
+
+  private List<MeetingEntity> findLazyMeetingsByEmployee(final String employee, final LocalDate fromDate,
+                                                         final LocalDate toDate, final Boolean attendees,
+                                                         final Comparator<MeetingEntity> scheduleOrder) {
+    final List<GroupEntity> lazyGroups = this.groupRepository.findByAssignedEmployeeAndScheduleModeAndGroupStatus(
+        employee, Cycle.Schedule.LAZY.name(), Group.Status.ACTIVE.name());
+    if (lazyGroups.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final Set<String> materializedMeetings =
+        this.meetingRepository.findKeysByGroupEntityInAndScheduledForBetween(lazyGroups, fromDate, toDate)
+            .stream()
+            .map(key -> key[0] + ":" + key[1] + ":" + key[2])
+            .collect(Collectors.toSet());
+    final Map<Long, List<GroupMemberEntity>> membersByGroup = attendees
+        ? this.groupMemberRepository.findByGroupIdIn(
+            lazyGroups.stream().map(GroupEntity::getId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.groupingBy(GroupMemberEntity::getGroupId))
+        : Collections.emptyMap();
+    return lazyGroups.stream()
+        .flatMap(groupEntity -> MeetingScheduler.schedule(groupEntity,
+            GroupMemberMapper.map(membersByGroup.getOrDefault(groupEntity.getId(), Collections.emptyList()),
+                GroupMemberEntity.Role.MEMBER), null, null)
+            .stream()
+            .filter(meetingEntity -> !meetingEntity.getScheduledFor().isBefore(fromDate)
+                && !meetingEntity.getScheduledFor().isAfter(toDate))
+            .filter(meetingEntity -> !materializedMeetings.contains(groupEntity.getId() + ":"
+                + meetingEntity.getCurrentCycle() + ":" + meetingEntity.getMeetingSequence())))
+        .sorted(scheduleOrder)
+        .collect(Collectors.toList());
+  }
+
+  private Meeting createMeeting(final MeetingEntity lazyMeetingEntity, final Boolean attendees) {
+    return this.createMeeting(lazyMeetingEntity.getGroupEntity(), lazyMeetingEntity,
+        attendees ? lazyMeetingEntity.getAttendees() : null,
+        AddressMapper.map(lazyMeetingEntity.getGroupEntity().getAddressEntity()));
+  }
+
+  private List<Meeting> findLazyMeetings(final GroupEntity groupEntity, final Boolean upcoming, final Boolean attendees,
+                                         final Address location) {
+    final List<MeetingEntity> meetingEntities = new ArrayList<>(attendees
+        ? this.meetingRepository.findWithAttendeesByGroupEntity(groupEntity)
+        : this.meetingRepository.findByGroupEntityOrderByCurrentCycleDescMeetingSequenceDesc(groupEntity));
+    final Set<Integer> materializedSequences = meetingEntities.stream()
+        .filter(meetingEntity -> meetingEntity.getCurrentCycle().equals(groupEntity.getCurrentCycle()))
+        .map(MeetingEntity::getMeetingSequence)
+        .collect(Collectors.toSet());
+    final Set<String> members = attendees
+        ? GroupMemberMapper.map(
+            this.groupMemberRepository.findByGroupIdAndRole(groupEntity.getId(), GroupMemberEntity.Role.MEMBER.name()),
+            GroupMemberEntity.Role.MEMBER)
+        : Collections.emptySet();
+    MeetingScheduler.schedule(groupEntity, members, null, null)
+        .stream()
+        .filter(meetingEntity -> !materializedSequences.contains(meetingEntity.getMeetingSequence()))
+        .forEach(meetingEntities::add);
+
+    if (upcoming) {
+      final LocalDate today = LocalDate.now(Clock.systemUTC());
+      return meetingEntities.stream()
+          .filter(meetingEntity -> meetingEntity.getScheduledFor().isAfter(today))
+          .min(Comparator.comparing(MeetingEntity::getScheduledFor))
+          .map(meetingEntity -> Collections.singletonList(this.createMeeting(groupEntity, meetingEntity,
+              attendees ? meetingEntity.getAttendees() : null, location)))
+          .orElse(Collections.emptyList());
+    }
+
+    return meetingEntities.stream()
+        .sorted(Comparator.comparing(MeetingEntity::getCurrentCycle)
+            .thenComparing(MeetingEntity::getMeetingSequence)
+            .reversed())
+        .map(meetingEntity -> this.createMeeting(groupEntity, meetingEntity,
+            attendees ? meetingEntity.getAttendees() : null, location))
+        .collect(Collectors.toList());
+  }
+
+  private static String encodeCursor(final Long changeTxid, final String identifier) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((changeTxid + "|" + identifier).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String[] decodeCursor(final String cursor) {
+    try {
+      final String[] position =
+          new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+      if (position.length != 2) {
+        throw ServiceException.badRequest("Invalid cursor {0}.", cursor);
+      }
+      Long.parseLong(position[0]);
+      return position;
+    } catch (final IllegalArgumentException ex) {
+      throw ServiceException.badRequest("Invalid cursor {0}.", cursor);
+    }
+  }
+
+  private Meeting createMeeting(final GroupEntity groupEntity, final MeetingEntity meetingEntity,
+                                final List<AttendeeEntity> attendeeEntities, final Address location) {
+    final Meeting meeting = MeetingMapper.map(meetingEntity);
+    meeting.setGroupIdentifier(groupEntity.getIdentifier());
+    if (attendeeEntities != null) {
+      meeting.setAttendees(attendeeEntities.stream().map(AttendeeMapper::map).collect(Collectors.toSet()));
+    }
+    meeting.setLocation(location);
+    return meeting;
+  }
+
+  private GroupPage createGroupPage(final Page<GroupEntity> page) {
+    final GroupPage groupPage = new GroupPage();
+    groupPage.setGroups(this.mapGroups(page.getContent()));
+    groupPage.setTotalPages(page.getTotalPages());
+    groupPage.setTotalElements(page.getTotalElements());
+
+    return groupPage;
+  }
+
+  private List<Group> mapGroups(final List<GroupEntity> groupEntities) {
+    final List<Long> groupIds = groupEntities.stream().map(GroupEntity::getId).collect(Collectors.toList());
+    final Map<Long, List<GroupMemberEntity>> membersByGroup = groupIds.isEmpty()
+        ? Collections.emptyMap()
+        : this.groupMemberRepository.findByGroupIdIn(groupIds)
+            .stream()
+            .collect(Collectors.groupingBy(GroupMemberEntity::getGroupId));
+
+    return groupEntities
+        .stream()
+        .map(groupEntity -> {
+          final Group group = GroupMapper.map(groupEntity,
+              this.groupDefinitionService.findIdentifier(groupEntity.getGroupDefinitionId()));
+          this.setMembers(group, membersByGroup.getOrDefault(groupEntity.getId(), Collections.emptyList()));
+          return group;
         })
         .collect(Collectors.toList());
   }
+
+  private void setMembers(final Group group, final List<GroupMemberEntity> groupMemberEntities) {
+    group.setLeaders(GroupMemberMapper.map(groupMemberEntities, GroupMemberEntity.Role.LEADER));
+    group.setMembers(GroupMemberMapper.map(groupMemberEntities, GroupMemberEntity.Role.MEMBER));
+  }
+
+  // the version is read before the group, so the content is never older than the version it is cached under
+  private Optional<RenderedGroup> renderGroup(final String identifier, final Long version) {
+    return this.findByIdentifier(identifier).map(group -> {
+      try {
+        return new RenderedGroup(version, this.objectMapper.writeValueAsBytes(group));
+      } catch (final JsonProcessingException ex) {
+        throw new IllegalStateException(ex);
+      }
+    });
+  }
+
+  private static class RenderedGroup {
+
+    private final Long version;
+    private final byte[] content;
+
+    private RenderedGroup(final Long version, final byte[] content) {
+      super();
+      this.version = version;
+      this.content = content;
+    }
+  }
 }
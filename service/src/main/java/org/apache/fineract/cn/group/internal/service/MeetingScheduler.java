@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.service;
+
+import org.apache.fineract.cn.group.api.v1.domain.Attendee;
+import org.apache.fineract.cn.group.api.v1.domain.Cycle;
+import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.internal.repository.AttendeeEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupDefinitionEntity;
+import org.apache.fineract.cn.group.internal.repository.GroupEntity;
+import org.apache.fineract.cn.group.internal.repository.MeetingEntity;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class MeetingScheduler {
+
+  private MeetingScheduler() {
+    super();
+  }
+
+  public static List<MeetingEntity> schedule(final GroupDefinitionEntity groupDefinitionEntity,
+                                             final GroupEntity groupEntity,
+                                             final Set<String> members,
+                                             final LocalDate startDate,
+                                             final String createdBy,
+                                             final LocalDateTime createdOn) {
+    final Cycle.Frequency frequency = Cycle.Frequency.valueOf(groupDefinitionEntity.getFrequency());
+    return MeetingScheduler.schedule(frequency, groupDefinitionEntity.getNumberOfMeetings(),
+        MeetingScheduler.anchor(frequency, Group.Weekday.from(groupEntity.getWeekday()), startDate),
+        groupEntity, members, createdBy, createdOn);
+  }
+
+  public static List<MeetingEntity> schedule(final GroupEntity groupEntity,
+                                             final Set<String> members,
+                                             final String createdBy,
+                                             final LocalDateTime createdOn) {
+    return MeetingScheduler.schedule(Cycle.Frequency.valueOf(groupEntity.getScheduleFrequency()),
+        groupEntity.getScheduleMeetings(), groupEntity.getScheduleAnchor(), groupEntity, members, createdBy, createdOn);
+  }
+
+  public static LocalDate anchor(final Cycle.Frequency frequency, final Group.Weekday weekday,
+                                 final LocalDate startDate) {
+    if (frequency != Cycle.Frequency.DAILY) {
+      return startDate.with(ChronoField.DAY_OF_WEEK, weekday.getValue());
+    }
+    return startDate;
+  }
+
+  private static List<MeetingEntity> schedule(final Cycle.Frequency frequency,
+                                              final Integer numberOfMeetings,
+                                              final LocalDate anchor,
+                                              final GroupEntity groupEntity,
+                                              final Set<String> members,
+                                              final String createdBy,
+                                              final LocalDateTime createdOn) {
+    LocalDate meeting = anchor;
+    final List<MeetingEntity> meetingEntities = new ArrayList<>(numberOfMeetings);
+    for (int i = 0; i < numberOfMeetings; i++) {
+      switch (frequency) {
+        case DAILY:
+          meeting = meeting.plusDays(1L);
+          break;
+        case WEEKLY:
+          meeting = meeting.plusWeeks(1L);
+          break;
+        case FORTNIGHTLY:
+          meeting = meeting.plusWeeks(2L);
+          break;
+        case MONTHLY:
+          meeting = meeting.plusMonths(1L);
+          break;
+      }
+
+      final MeetingEntity meetingEntity = new MeetingEntity();
+      meetingEntity.setGroupEntity(groupEntity);
+      meetingEntity.setCurrentCycle(groupEntity.getCurrentCycle());
+      meetingEntity.setMeetingSequence((i + 1));
+      meetingEntity.setScheduledFor(meeting);
+      meetingEntity.setCreatedBy(createdBy);
+      meetingEntity.setCreatedOn(createdOn);
+
+      final List<AttendeeEntity> attendeeEntities = new ArrayList<>(members.size());
+      members.forEach(member -> {
+        final AttendeeEntity attendeeEntity = new AttendeeEntity();
+        attendeeEntity.setMeeting(meetingEntity);
+        attendeeEntity.setCustomerIdentifier(member);
+        attendeeEntity.setStatus(Attendee.Status.EXPECTED.name());
+        attendeeEntities.add(attendeeEntity);
+      });
+      meetingEntity.setAttendees(attendeeEntities);
+      meetingEntities.add(meetingEntity);
+    }
+    return meetingEntities;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.service;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.fineract.cn.lang.TenantContextHolder;
+
+public class TenantScopedCache<V> {
+
+  private final int maximumSize;
+  private final long timeToLiveNanos;
+  private final ConcurrentMap<String, TenantEntries<V>> tenantEntries;
+  private final Counter hits;
+  private final Counter misses;
+
+  public TenantScopedCache(final String name, final int maximumSize, final MetricRegistry metricRegistry) {
+    this(name, maximumSize, 0L, metricRegistry);
+  }
+
+  // a time to live bounds how long changes made through other nodes stay invisible, zero keeps entries until evicted
+  public TenantScopedCache(final String name, final int maximumSize, final long timeToLiveSeconds,
+                           final MetricRegistry metricRegistry) {
+    super();
+    this.maximumSize = maximumSize;
+    this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLiveSeconds);
+    this.tenantEntries = new ConcurrentHashMap<>();
+    this.hits = metricRegistry.counter(MetricRegistry.name(name, "hits"));
+    this.misses = metricRegistry.counter(MetricRegistry.name(name, "misses"));
+  }
+
+  public Optional<V> get(final String key, final Function<String, Optional<V>> loader) {
+    final TenantEntries<V> entries = this.currentTenantEntries();
+    final long generation;
+    synchronized (entries) {
+      final Entry<V> entry = entries.get(key);
+      if (entry != null && !entry.isExpired()) {
+        this.hits.inc();
+        return Optional.of(entry.value);
+      }
+      generation = entries.generation;
+    }
+
+    this.misses.inc();
+    final Optional<V> loaded = loader.apply(key);
+    loaded.ifPresent(value -> {
+      synchronized (entries) {
+        // an eviction while loading means the loaded value may already be stale
+        if (entries.generation == generation) {
+          entries.put(key, new Entry<>(value,
+              this.timeToLiveNanos > 0L ? System.nanoTime() + this.timeToLiveNanos : null));
+        }
+      }
+    });
+    return loaded;
+  }
+
+  public void evict(final String key) {
+    final TenantEntries<V> entries = this.currentTenantEntries();
+    synchronized (entries) {
+      entries.remove(key);
+      entries.generation++;
+    }
+  }
+
+  private TenantEntries<V> currentTenantEntries() {
+    return this.tenantEntries.computeIfAbsent(TenantContextHolder.checkedGetIdentifier(),
+        tenant -> new TenantEntries<>(this.maximumSize));
+  }
+
+  private static class Entry<V> {
+
+    private final V value;
+    private final Long expiresAt;
+
+    Entry(final V value, final Long expiresAt) {
+      super();
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired() {
+      return this.expiresAt != null && System.nanoTime() - this.expiresAt >= 0L;
+    }
+  }
+
+  private static class TenantEntries<V> extends LinkedHashMap<String, Entry<V>> {
+
+    private final int maximumSize;
+    private long generation;
+
+    TenantEntries(final int maximumSize) {
+      super(16, 0.75F, true);
+      this.maximumSize = maximumSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, Entry<V>> eldest) {
+      return this.size() > this.maximumSize;
+    }
+  }
+}
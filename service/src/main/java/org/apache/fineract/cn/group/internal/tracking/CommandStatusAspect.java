@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.tracking;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CommandStatusAspect {
+
+  private final CommandTracker commandTracker;
+  private final TransactionTemplate transactionTemplate;
+
+  @Autowired
+  public CommandStatusAspect(final CommandTracker commandTracker,
+                             final PlatformTransactionManager transactionManager) {
+    super();
+    this.commandTracker = commandTracker;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  // ordered ahead of the transaction advice, the handler joins this transaction so a processed status
+  // commits together with the change and is visible before any event relayed for it
+  @Around("@annotation(org.apache.fineract.cn.command.annotation.CommandHandler)")
+  public Object track(final ProceedingJoinPoint joinPoint) throws Throwable {
+    final Optional<String> identifier = joinPoint.getArgs().length > 0 && joinPoint.getArgs()[0] != null
+        ? this.commandTracker.claim(joinPoint.getArgs()[0])
+        : Optional.empty();
+    if (!identifier.isPresent()) {
+      return joinPoint.proceed();
+    }
+
+    final AtomicBoolean completed = new AtomicBoolean(false);
+    try {
+      return this.transactionTemplate.execute(transactionStatus -> {
+        final Object result = proceed(joinPoint);
+        // flushed first, so a violated constraint fails the command and not only its commit
+        transactionStatus.flush();
+        this.commandTracker.complete(identifier.get(), null);
+        completed.set(true);
+        return result;
+      });
+    } catch (final Throwable throwable) {
+      final Throwable failure = throwable instanceof HandlerFailure ? throwable.getCause() : throwable;
+      if (completed.get()) {
+        this.commandTracker.completeRolledBack(identifier.get(), failure);
+      } else {
+        this.commandTracker.complete(identifier.get(), failure);
+      }
+      throw failure;
+    }
+  }
+
+  private static Object proceed(final ProceedingJoinPoint joinPoint) {
+    try {
+      return joinPoint.proceed();
+    } catch (final RuntimeException | Error ex) {
+      throw ex;
+    } catch (final Throwable throwable) {
+      throw new HandlerFailure(throwable);
+    }
+  }
+
+  private static class HandlerFailure extends RuntimeException {
+
+    private HandlerFailure(final Throwable cause) {
+      super(cause);
+    }
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.internal.tracking;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.apache.fineract.cn.api.util.UserContextHolder;
+import org.apache.fineract.cn.group.api.v1.domain.CommandStatus;
+import org.apache.fineract.cn.group.ServiceConstants;
+import org.apache.fineract.cn.group.internal.dispatch.GroupCommandDispatcher;
+import org.apache.fineract.cn.lang.AutoTenantContext;
+import org.apache.fineract.cn.lang.DateConverter;
+import org.apache.fineract.cn.lang.TenantContextHolder;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class CommandTracker {
+
+  private static final int MAX_MESSAGE_LENGTH = 2048;
+  private static final String INSERT_STATUS =
+      "INSERT INTO ptah_command_status (identifier, command, state, created_by, created_on) VALUES (?, ?, ?, ?, ?)";
+  private static final String UPDATE_STATUS =
+      "UPDATE ptah_command_status SET state = ?, message = ?, completed_on = ? WHERE identifier = ?";
+  private static final String SELECT_STATUS =
+      "SELECT identifier, command, state, message, created_by, created_on, completed_on " +
+          "FROM ptah_command_status WHERE identifier = ?";
+  private static final String DELETE_EXPIRED = "DELETE FROM ptah_command_status WHERE created_on < ?";
+
+  private final Logger logger;
+  private final GroupCommandDispatcher groupCommandDispatcher;
+  private final JdbcTemplate jdbcTemplate;
+  private final long statusRetention;
+  private final Map<String, CommandStatus> recentStatus;
+  private final Map<Object, String> pendingCommands;
+  private final Map<String, PendingParts> pendingParts = new ConcurrentHashMap<>();
+  private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+
+  @Autowired
+  public CommandTracker(@Qualifier(ServiceConstants.LOGGER_NAME) final Logger logger,
+                        final GroupCommandDispatcher groupCommandDispatcher,
+                        final DataSource dataSource,
+                        @Value("${group.commands.statusCapacity:10000}") final int statusCapacity,
+                        @Value("${group.commands.statusRetention:24}") final long statusRetention) {
+    super();
+    this.logger = logger;
+    this.groupCommandDispatcher = groupCommandDispatcher;
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.statusRetention = statusRetention;
+    this.recentStatus = Collections.synchronizedMap(new LinkedHashMap<String, CommandStatus>(16, 0.75F, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, CommandStatus> eldest) {
+        return this.size() > statusCapacity;
+      }
+    });
+    // commands are handed to their handler as the same instance, so identity is the correlation key
+    this.pendingCommands = Collections.synchronizedMap(new IdentityHashMap<>());
+  }
+
+  public String process(final Object command) {
+    final CommandStatus commandStatus = new CommandStatus();
+    commandStatus.setIdentifier(UUID.randomUUID().toString());
+    commandStatus.setCommand(command.getClass().getSimpleName());
+    commandStatus.setState(CommandStatus.State.PENDING.name());
+    commandStatus.setCreatedBy(UserContextHolder.checkedGetUser());
+    final LocalDateTime createdOn = LocalDateTime.now(Clock.systemUTC());
+    commandStatus.setCreatedOn(DateConverter.toIsoString(createdOn));
+
+    this.jdbcTemplate.update(INSERT_STATUS, commandStatus.getIdentifier(), commandStatus.getCommand(),
+        commandStatus.getState(), commandStatus.getCreatedBy(), Timestamp.valueOf(createdOn));
+    this.recentStatus.put(this.key(commandStatus.getIdentifier()), commandStatus);
+    this.tenants.add(TenantContextHolder.checkedGetIdentifier());
+
+    final List<Object> parts = this.groupCommandDispatcher.split(command);
+    if (parts.size() > 1) {
+      this.pendingParts.put(commandStatus.getIdentifier(), new PendingParts(parts.size()));
+    }
+    parts.forEach(part -> this.pendingCommands.put(part, commandStatus.getIdentifier()));
+    try {
+      this.groupCommandDispatcher.dispatch(parts);
+    } catch (final RuntimeException ex) {
+      parts.forEach(this.pendingCommands::remove);
+      this.pendingParts.remove(commandStatus.getIdentifier());
+      this.complete(commandStatus.getIdentifier(), ex);
+      throw ex;
+    }
+    return commandStatus.getIdentifier();
+  }
+
+  public Optional<CommandStatus> find(final String identifier) {
+    final CommandStatus recent = this.recentStatus.get(this.key(identifier));
+    if (recent != null) {
+      return Optional.of(recent);
+    }
+
+    final List<CommandStatus> persisted = this.jdbcTemplate.query(SELECT_STATUS, (resultSet, rowNum) -> {
+      final CommandStatus commandStatus = new CommandStatus();
+      commandStatus.setIdentifier(resultSet.getString("identifier"));
+      commandStatus.setCommand(resultSet.getString("command"));
+      commandStatus.setState(resultSet.getString("state"));
+      commandStatus.setMessage(resultSet.getString("message"));
+      commandStatus.setCreatedBy(resultSet.getString("created_by"));
+      commandStatus.setCreatedOn(DateConverter.toIsoString(resultSet.getTimestamp("created_on").toLocalDateTime()));
+      final Timestamp completedOn = resultSet.getTimestamp("completed_on");
+      if (completedOn != null) {
+        commandStatus.setCompletedOn(DateConverter.toIsoString(completedOn.toLocalDateTime()));
+      }
+      return commandStatus;
+    }, identifier);
+    persisted.forEach(commandStatus -> this.recentStatus.put(this.key(identifier), commandStatus));
+    return persisted.stream().findFirst();
+  }
+
+  // statuses are kept for group.commands.statusRetention hours, long enough for any client to look them up,
+  // and purged for every tenant this node tracked commands of
+  @Scheduled(fixedDelayString = "${group.commands.statusPurgeDelay:3600000}")
+  public void purge() {
+    final LocalDateTime expiredBefore = LocalDateTime.now(Clock.systemUTC()).minusHours(this.statusRetention);
+    this.tenants.forEach(tenant -> {
+      try (final AutoTenantContext ignored = new AutoTenantContext(tenant)) {
+        final int purged = this.jdbcTemplate.update(DELETE_EXPIRED, Timestamp.valueOf(expiredBefore));
+        this.logger.debug("Purged {} command statuses of tenant {}.", purged, tenant);
+      } catch (final RuntimeException ex) {
+        this.logger.warn("Could not purge command statuses of tenant {}.", tenant, ex);
+      }
+    });
+    synchronized (this.recentStatus) {
+      this.recentStatus.values().removeIf(commandStatus ->
+          DateConverter.fromIsoString(commandStatus.getCreatedOn()).isBefore(expiredBefore));
+    }
+  }
+
+  Optional<String> claim(final Object command) {
+    return Optional.ofNullable(this.pendingCommands.remove(command));
+  }
+
+  void complete(final String identifier, final Throwable partFailure) {
+    Throwable failure = partFailure;
+    final PendingParts pendingParts = this.pendingParts.get(identifier);
+    if (pendingParts != null) {
+      // a split command is done once all of its parts are, and failed if any of them did
+      if (partFailure != null) {
+        pendingParts.failure.compareAndSet(null, partFailure);
+      }
+      if (pendingParts.remaining.decrementAndGet() > 0) {
+        return;
+      }
+      this.pendingParts.remove(identifier);
+      failure = pendingParts.failure.get();
+    }
+
+    this.record(identifier, failure);
+  }
+
+  // the part was already counted, but its transaction rolled back while committing
+  void completeRolledBack(final String identifier, final Throwable failure) {
+    final PendingParts pendingParts = this.pendingParts.get(identifier);
+    if (pendingParts != null) {
+      pendingParts.failure.compareAndSet(null, failure);
+      return;
+    }
+    this.record(identifier, failure);
+  }
+
+  private void record(final String identifier, final Throwable failure) {
+    final CommandStatus.State state = failure == null ? CommandStatus.State.PROCESSED : CommandStatus.State.FAILED;
+    final String message = failure == null || failure.getMessage() == null
+        ? null
+        : failure.getMessage().substring(0, Math.min(failure.getMessage().length(), MAX_MESSAGE_LENGTH));
+    final LocalDateTime completedOn = LocalDateTime.now(Clock.systemUTC());
+
+    this.jdbcTemplate.update(UPDATE_STATUS, state.name(), message, Timestamp.valueOf(completedOn), identifier);
+    final String key = this.key(identifier);
+    final Runnable remember = () -> this.recentStatus.computeIfPresent(key, (ignored, pending) -> {
+      final CommandStatus commandStatus = new CommandStatus();
+      commandStatus.setIdentifier(pending.getIdentifier());
+      commandStatus.setCommand(pending.getCommand());
+      commandStatus.setState(state.name());
+      commandStatus.setMessage(message);
+      commandStatus.setCreatedBy(pending.getCreatedBy());
+      commandStatus.setCreatedOn(pending.getCreatedOn());
+      commandStatus.setCompletedOn(DateConverter.toIsoString(completedOn));
+      return commandStatus;
+    });
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      remember.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+      @Override
+      public int getOrder() {
+        // ahead of the outbox relay, so the status is never older than an event of the command
+        return Ordered.HIGHEST_PRECEDENCE;
+      }
+
+      @Override
+      public void afterCommit() {
+        remember.run();
+      }
+    });
+  }
+
+  private String key(final String identifier) {
+    return TenantContextHolder.checkedGetIdentifier() + ":" + identifier;
+  }
+
+  private static class PendingParts {
+
+    private final AtomicInteger remaining;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private PendingParts(final int parts) {
+      super();
+      this.remaining = new AtomicInteger(parts);
+    }
+  }
+}
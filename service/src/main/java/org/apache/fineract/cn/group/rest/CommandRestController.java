@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.rest;
+
+import org.apache.fineract.cn.group.api.v1.PermittableGroupIds;
+import org.apache.fineract.cn.group.api.v1.domain.CommandStatus;
+import org.apache.fineract.cn.group.internal.tracking.CommandTracker;
+import org.apache.fineract.cn.anubis.annotation.AcceptedTokenType;
+import org.apache.fineract.cn.anubis.annotation.Permittable;
+import org.apache.fineract.cn.lang.ServiceException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@RequestMapping("/commands")
+public class CommandRestController {
+
+  private final CommandTracker commandTracker;
+
+  @Autowired
+  public CommandRestController(final CommandTracker commandTracker) {
+    super();
+    this.commandTracker = commandTracker;
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/{identifier}",
+      method = RequestMethod.GET,
+      consumes = MediaType.ALL_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public
+  @ResponseBody
+  ResponseEntity<CommandStatus> fetchCommandStatus(@PathVariable("identifier") final String identifier) {
+    return this.commandTracker.find(identifier)
+        .map(ResponseEntity::ok)
+        .orElseThrow(() -> ServiceException.notFound("Command {0} not found.", identifier));
+  }
+
+  static ResponseEntity.BodyBuilder accepted(final String commandIdentifier) {
+    return ResponseEntity.accepted().location(
+        ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path("/commands/{identifier}")
+            .buildAndExpand(commandIdentifier)
+            .toUri());
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.rest;
+
+import org.apache.fineract.cn.group.api.v1.PermittableGroupIds;
+import org.apache.fineract.cn.group.ServiceConstants;
+import org.apache.fineract.cn.group.internal.repository.GroupExporter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.fineract.cn.anubis.annotation.AcceptedTokenType;
+import org.apache.fineract.cn.anubis.annotation.Permittable;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/export")
+public class ExportRestController {
+
+  private static final String NDJSON_VALUE = "application/x-ndjson";
+
+  private final Logger logger;
+  private final GroupExporter groupExporter;
+
+  @Autowired
+  public ExportRestController(@Qualifier(ServiceConstants.LOGGER_NAME) final Logger logger,
+                              final GroupExporter groupExporter) {
+    super();
+    this.logger = logger;
+    this.groupExporter = groupExporter;
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/groups",
+      method = RequestMethod.GET,
+      produces = NDJSON_VALUE,
+      consumes = MediaType.ALL_VALUE
+  )
+  public void exportGroups(final HttpServletResponse response) throws IOException {
+    this.export(response, this.groupExporter::exportGroups);
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/commands",
+      method = RequestMethod.GET,
+      produces = NDJSON_VALUE,
+      consumes = MediaType.ALL_VALUE
+  )
+  public void exportCommands(final HttpServletResponse response) throws IOException {
+    this.export(response, this.groupExporter::exportCommands);
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/meetings",
+      method = RequestMethod.GET,
+      produces = NDJSON_VALUE,
+      consumes = MediaType.ALL_VALUE
+  )
+  public void exportMeetings(final HttpServletResponse response) throws IOException {
+    this.export(response, this.groupExporter::exportMeetings);
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/attendees",
+      method = RequestMethod.GET,
+      produces = NDJSON_VALUE,
+      consumes = MediaType.ALL_VALUE
+  )
+  public void exportAttendees(final HttpServletResponse response) throws IOException {
+    this.export(response, this.groupExporter::exportAttendees);
+  }
+
+  private void export(final HttpServletResponse response, final Consumer<Writer> exporter) throws IOException {
+    response.setContentType(NDJSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    final Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+    exporter.accept(writer);
+    writer.flush();
+  }
+}
@@ -24,11 +24,11 @@ import org.apache.fineract.cn.group.ServiceConstants;
 import org.apache.fineract.cn.group.internal.command.CreateGroupDefinitionCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateGroupDefinitionCommand;
 import org.apache.fineract.cn.group.internal.service.GroupDefinitionService;
+import org.apache.fineract.cn.group.internal.tracking.CommandTracker;
 import java.util.List;
 import javax.validation.Valid;
 import org.apache.fineract.cn.anubis.annotation.AcceptedTokenType;
 import org.apache.fineract.cn.anubis.annotation.Permittable;
-import org.apache.fineract.cn.command.gateway.CommandGateway;
 import org.apache.fineract.cn.lang.ServiceException;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,16 +47,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class GroupDefinitionRestController {
 
   private final Logger logger;
-  private final CommandGateway commandGateway;
+  private final CommandTracker commandTracker;
   private final GroupDefinitionService groupDefinitionService;
 
   @Autowired
   public GroupDefinitionRestController(@Qualifier(ServiceConstants.LOGGER_NAME) final Logger logger,
-                                       final CommandGateway commandGateway,
+                                       final CommandTracker commandTracker,
                                        final GroupDefinitionService groupDefinitionService) {
     super();
     this.logger = logger;
-    this.commandGateway = commandGateway;
+    this.commandTracker = commandTracker;
     this.groupDefinitionService = groupDefinitionService;
   }
 
@@ -72,8 +72,8 @@ public class GroupDefinitionRestController {
     if (this.groupDefinitionService.groupDefinitionExists(groupDefinition.getIdentifier())) {
       throw ServiceException.conflict("Group definition {0} already exists.", groupDefinition.getIdentifier());
     }
-      this.commandGateway.process(new CreateGroupDefinitionCommand(groupDefinition));
-    return ResponseEntity.accepted().build();
+      final String commandIdentifier = this.commandTracker.process(new CreateGroupDefinitionCommand(groupDefinition));
+    return CommandRestController.accepted(commandIdentifier).build();
 
 //    this.groupDefinitionService.findByIdentifier(groupDefinition.getIdentifier())
 //        .ifPresent(gd -> {
@@ -125,9 +125,9 @@ public class GroupDefinitionRestController {
     this.groupDefinitionService.findByIdentifier(identifier)
             .orElseThrow(() -> ServiceException.notFound("Group Definition {0} not found.", identifier));
 
-    this.commandGateway.process(new UpdateGroupDefinitionCommand(groupDefinition));
+    final String commandIdentifier = this.commandTracker.process(new UpdateGroupDefinitionCommand(groupDefinition));
 
-    return ResponseEntity.accepted().build();
+    return CommandRestController.accepted(commandIdentifier).build();
   }
 
     // if (this.groupDefinitionService.groupDefinitionExists(identifier)) {
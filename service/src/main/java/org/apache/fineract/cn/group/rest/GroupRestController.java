@@ -20,6 +20,7 @@ package org.apache.fineract.cn.group.rest;
 
 import org.apache.fineract.cn.group.api.v1.domain.AssignedEmployeeHolder;
 import org.apache.fineract.cn.group.api.v1.domain.Group;
+import org.apache.fineract.cn.group.api.v1.domain.GroupBatchResult;
 import org.apache.fineract.cn.group.api.v1.domain.GroupCommand;
 import org.apache.fineract.cn.group.api.v1.domain.GroupPage;
 import org.apache.fineract.cn.group.api.v1.domain.Meeting;
@@ -27,33 +28,55 @@ import org.apache.fineract.cn.group.api.v1.domain.SignOffMeeting;
 import org.apache.fineract.cn.group.ServiceConstants;
 import org.apache.fineract.cn.group.api.v1.PermittableGroupIds;
 import org.apache.fineract.cn.group.internal.command.ActivateGroupCommand;
+import org.apache.fineract.cn.group.internal.command.AddMemberCommand;
 import org.apache.fineract.cn.group.internal.command.CloseGroupCommand;
 import org.apache.fineract.cn.group.internal.command.CreateGroupCommand;
+import org.apache.fineract.cn.group.internal.command.CreateGroupsCommand;
+import org.apache.fineract.cn.group.internal.command.RemoveMemberCommand;
 import org.apache.fineract.cn.group.internal.command.ReopenGroupCommand;
 import org.apache.fineract.cn.group.internal.command.SignOffMeetingCommand;
+import org.apache.fineract.cn.group.internal.command.SignOffMeetingsCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateAssignedEmployeeCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateLeadersCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateMembersCommand;
 import org.apache.fineract.cn.group.internal.command.UpdateGroupCommand;
 import org.apache.fineract.cn.group.internal.service.GroupDefinitionService;
 import org.apache.fineract.cn.group.internal.service.GroupService;
+import org.apache.fineract.cn.group.internal.tracking.CommandTracker;
+import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validation;
+import javax.validation.Validator;
 import org.apache.fineract.cn.anubis.annotation.AcceptedTokenType;
 import org.apache.fineract.cn.anubis.annotation.Permittable;
-import org.apache.fineract.cn.command.gateway.CommandGateway;
+import org.apache.fineract.cn.lang.DateConverter;
 import org.apache.fineract.cn.lang.ServiceException;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -65,21 +88,25 @@ import org.springframework.web.bind.annotation.RestController;
 public class GroupRestController {
 
   private final Logger logger;
-  private final CommandGateway commandGateway;
+  private final CommandTracker commandTracker;
   private final GroupService groupService;
   private final GroupDefinitionService groupDefinitionService;
-
+  private final Validator validator;
+  private final int maxBatchSize;
 
   @Autowired
   public GroupRestController(@Qualifier(ServiceConstants.LOGGER_NAME) final Logger logger,
-                             final CommandGateway commandGateway,
+                             final CommandTracker commandTracker,
                              final GroupService groupService,
-                             final GroupDefinitionService groupDefinitionService) {
+                             final GroupDefinitionService groupDefinitionService,
+                             @Value("${group.batch.maxSize:1000}") final int maxBatchSize) {
     super();
     this.logger = logger;
-    this.commandGateway = commandGateway;
+    this.commandTracker = commandTracker;
     this.groupService = groupService;
     this.groupDefinitionService = groupDefinitionService;
+    this.validator = Validation.buildDefaultValidatorFactory().getValidator();
+    this.maxBatchSize = maxBatchSize;
   }
 
   @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
@@ -91,17 +118,69 @@ public class GroupRestController {
   public
   @ResponseBody
   ResponseEntity<Void> createGroup(@RequestBody @Valid final Group group) {
-    this.groupService.findByIdentifier(group.getIdentifier())
-        .ifPresent(g -> {
-          throw ServiceException.conflict("Group {0} already exists.", g.getIdentifier());
-        });
+    if (this.groupService.groupExists(group.getIdentifier())) {
+      throw ServiceException.conflict("Group {0} already exists.", group.getIdentifier());
+    }
 
     if (!this.groupDefinitionService.findByIdentifier(group.getGroupDefinitionIdentifier()).isPresent()) {
       throw ServiceException.notFound("Unknown group definition {0}.", group.getGroupDefinitionIdentifier());
     }
 
-    this.commandGateway.process(new CreateGroupCommand(group));
-    return ResponseEntity.accepted().build();
+    final String commandIdentifier = this.commandTracker.process(new CreateGroupCommand(group));
+    return CommandRestController.accepted(commandIdentifier).build();
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/batch",
+      method = RequestMethod.POST,
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public
+  @ResponseBody
+  ResponseEntity<List<GroupBatchResult>> createGroups(@RequestBody final List<Group> groups) {
+    // a batch is created in one transaction, so its size is bounded
+    if (groups.size() > this.maxBatchSize) {
+      throw ServiceException.badRequest("Batch of {0} groups exceeds the maximum of {1}.",
+          groups.size(), this.maxBatchSize);
+    }
+
+    final Set<String> existingIdentifiers = this.groupService.findExistingIdentifiers(
+        groups.stream().map(Group::getIdentifier).filter(Objects::nonNull).collect(Collectors.toSet()));
+    final Set<String> batchIdentifiers = new HashSet<>();
+    final Map<String, Boolean> knownDefinitions = new HashMap<>();
+
+    final List<GroupBatchResult> results = new ArrayList<>(groups.size());
+    final List<Group> acceptedGroups = new ArrayList<>(groups.size());
+    groups.forEach(group -> {
+      final Set<ConstraintViolation<Group>> violations = this.validator.validate(group);
+      if (!violations.isEmpty()) {
+        results.add(new GroupBatchResult(group.getIdentifier(), GroupBatchResult.Status.INVALID,
+            violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .collect(Collectors.joining(", "))));
+      } else if (group.getAddress() == null) {
+        results.add(new GroupBatchResult(group.getIdentifier(), GroupBatchResult.Status.INVALID,
+            "address may not be null"));
+      } else if (existingIdentifiers.contains(group.getIdentifier()) || !batchIdentifiers.add(group.getIdentifier())) {
+        results.add(new GroupBatchResult(group.getIdentifier(), GroupBatchResult.Status.CONFLICT,
+            MessageFormat.format("Group {0} already exists.", group.getIdentifier())));
+      } else if (!knownDefinitions.computeIfAbsent(group.getGroupDefinitionIdentifier(),
+          definition -> this.groupDefinitionService.findByIdentifier(definition).isPresent())) {
+        results.add(new GroupBatchResult(group.getIdentifier(), GroupBatchResult.Status.NOT_FOUND,
+            MessageFormat.format("Unknown group definition {0}.", group.getGroupDefinitionIdentifier())));
+      } else {
+        results.add(new GroupBatchResult(group.getIdentifier(), GroupBatchResult.Status.ACCEPTED, null));
+        acceptedGroups.add(group);
+      }
+    });
+
+    if (acceptedGroups.isEmpty()) {
+      return ResponseEntity.accepted().body(results);
+    }
+    final String commandIdentifier = this.commandTracker.process(new CreateGroupsCommand(acceptedGroups));
+    return CommandRestController.accepted(commandIdentifier).body(results);
   }
 
   @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
@@ -114,13 +193,61 @@ public class GroupRestController {
   @ResponseBody
   ResponseEntity<GroupPage> fetchGroups(
       @RequestParam(value="employee",required=false) final String employee,
+      @RequestParam(value="member",required=false) final String member,
+      @RequestParam(value="after",required=false) final String after,
       @RequestParam(value="page", required=false) final Integer page,
       @RequestParam(value="size",required=false) final Integer size,
       @RequestParam(value="sortColumn",required=false) final String sortColumn,
       @RequestParam(value="sortDirection", required=false) final String sortDirection) {
-    return ResponseEntity.ok(
-        this.groupService.fetchGroups(employee, this.createPageRequest(page, size, sortColumn, sortDirection))
-    );
+    if (after != null) {
+      if (member != null || page != null || sortColumn != null || sortDirection != null) {
+        throw ServiceException.badRequest("Parameter after can only be combined with employee and size.");
+      }
+      final int sizeToUse = size != null ? size : 20;
+      if (sizeToUse < 1) {
+        throw ServiceException.badRequest("Size must be positive.");
+      }
+      return ResponseEntity.ok(this.groupService.fetchGroupsAfter(employee, after, sizeToUse));
+    }
+    final Pageable pageable = this.createPageRequest(page, size, sortColumn, sortDirection);
+    if (member != null) {
+      return ResponseEntity.ok(this.groupService.fetchGroupsByMember(member, pageable));
+    }
+    return ResponseEntity.ok(this.groupService.fetchGroups(employee, pageable));
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/changes",
+      method = RequestMethod.GET,
+      consumes = MediaType.ALL_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public
+  @ResponseBody
+  ResponseEntity<GroupPage> fetchGroupChanges(
+      @RequestParam(value="since", required=false) final String since,
+      @RequestParam(value="cursor", required=false) final String cursor,
+      @RequestParam(value="size", required=false) final Integer size) {
+    if ((since == null) == (cursor == null)) {
+      throw ServiceException.badRequest("Exactly one of since and cursor must be given.");
+    }
+    final int sizeToUse = size != null ? size : 20;
+    if (sizeToUse < 1) {
+      throw ServiceException.badRequest("Size must be positive.");
+    }
+
+    final LocalDateTime sinceDateTime;
+    if (since != null) {
+      try {
+        sinceDateTime = DateConverter.fromIsoString(since);
+      } catch (final DateTimeParseException ex) {
+        throw ServiceException.badRequest("Parameter since must be an ISO timestamp, was {0}.", since);
+      }
+    } else {
+      sinceDateTime = null;
+    }
+    return ResponseEntity.ok(this.groupService.fetchGroupChanges(sinceDateTime, cursor, sizeToUse));
   }
 
   @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
@@ -132,9 +259,20 @@ public class GroupRestController {
   )
   public
   @ResponseBody
-  ResponseEntity<Group> findByIdentifier(@PathVariable("identifier") final String identifier) {
-    return this.groupService.findByIdentifier(identifier)
-        .map(ResponseEntity::ok)
+  ResponseEntity<byte[]> findByIdentifier(@PathVariable("identifier") final String identifier,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+    // the version is read before the group, so a concurrent update can only make the tag older than the body
+    final Long version = this.groupService.findVersion(identifier)
+        .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", identifier));
+    final String entityTag = toEntityTag(version);
+    if (ifNoneMatch != null && Arrays.stream(ifNoneMatch.split(","))
+        .map(String::trim)
+        .anyMatch(tag -> tag.equals("*") || tag.equals(entityTag))) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entityTag).build();
+    }
+
+    return this.groupService.findRenderedGroup(identifier, version)
+        .map(content -> ResponseEntity.ok().eTag(entityTag).contentType(MediaType.APPLICATION_JSON_UTF8).body(content))
         .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", identifier));
   }
 
@@ -149,13 +287,30 @@ public class GroupRestController {
   public
   @ResponseBody
   ResponseEntity<Void> updateGroup(@PathVariable("identifier") final String identifier,
-                                      @RequestBody final Group group) {
-    this.groupService.findByIdentifier(identifier)
-            .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", identifier));
+                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
+                                   @RequestBody final Group group) {
+    if (group.getIdentifier() == null) {
+      group.setIdentifier(identifier);
+    } else if (!group.getIdentifier().equals(identifier)) {
+      throw ServiceException.badRequest("Group identifier {0} does not match {1}.", group.getIdentifier(), identifier);
+    }
 
-    this.commandGateway.process(new UpdateGroupCommand(group));
+    if (ifMatch == null) {
+      this.throwIfGroupNotExists(identifier);
+      final String commandIdentifier = this.commandTracker.process(new UpdateGroupCommand(group));
+      return CommandRestController.accepted(commandIdentifier).build();
+    }
 
-    return ResponseEntity.accepted().build();
+    // the version also covers members and leaders, a full update conflicts with any change to them;
+    // a change committed after this check fails the command, which is reported by its command status
+    final Long version = this.groupService.findVersion(identifier)
+        .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", identifier));
+    if (!ifMatch.trim().equals("*") && !ifMatch.trim().equals(toEntityTag(version))) {
+      return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(toEntityTag(version)).build();
+    }
+
+    final String commandIdentifier = this.commandTracker.process(new UpdateGroupCommand(group, version));
+    return CommandRestController.accepted(commandIdentifier).build();
   }
 
   @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
@@ -168,22 +323,23 @@ public class GroupRestController {
   public
   @ResponseBody
   ResponseEntity<Void> processGroupCommand(@PathVariable("identifier") final String identifier, @RequestBody final GroupCommand groupCommand) {
-    this.groupService.findByIdentifier(identifier).orElseThrow(() -> ServiceException.notFound("Group {0} not found.", identifier));
+    this.throwIfGroupNotExists(identifier);
     final GroupCommand.Action action = GroupCommand.Action.valueOf(groupCommand.getAction());
+    final String commandIdentifier;
     switch (action) {
       case ACTIVATE:
-        this.commandGateway.process(new ActivateGroupCommand(identifier, groupCommand));
+        commandIdentifier = this.commandTracker.process(new ActivateGroupCommand(identifier, groupCommand));
         break;
       case CLOSE:
-        this.commandGateway.process(new CloseGroupCommand(identifier, groupCommand));
+        commandIdentifier = this.commandTracker.process(new CloseGroupCommand(identifier, groupCommand));
         break;
       case REOPEN:
-        this.commandGateway.process(new ReopenGroupCommand(identifier, groupCommand));
+        commandIdentifier = this.commandTracker.process(new ReopenGroupCommand(identifier, groupCommand));
         break;
       default:
         throw ServiceException.badRequest("Unsupported command {0}.", action.name());
     }
-    return ResponseEntity.accepted().build();
+    return CommandRestController.accepted(commandIdentifier).build();
   }
 
   @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
@@ -210,12 +366,11 @@ public class GroupRestController {
   @ResponseBody
   ResponseEntity<Void> updateLeaders(@PathVariable("identifier") final String identifier,
                                      @RequestBody final Set<String> customerIdentifiers) {
-    this.groupService.findByIdentifier(identifier)
-        .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", identifier));
+    this.throwIfGroupNotExists(identifier);
 
-    this.commandGateway.process(new UpdateLeadersCommand(identifier, customerIdentifiers));
+    final String commandIdentifier = this.commandTracker.process(new UpdateLeadersCommand(identifier, customerIdentifiers));
 
-    return ResponseEntity.accepted().build();
+    return CommandRestController.accepted(commandIdentifier).build();
   }
 
   @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
@@ -229,12 +384,47 @@ public class GroupRestController {
   @ResponseBody
   ResponseEntity<Void> updateMembers(@PathVariable("identifier") final String identifier,
                                      @RequestBody final Set<String> customerIdentifiers) {
-    this.groupService.findByIdentifier(identifier)
-        .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", identifier));
+    this.throwIfGroupNotExists(identifier);
 
-    this.commandGateway.process(new UpdateMembersCommand(identifier, customerIdentifiers));
+    final String commandIdentifier = this.commandTracker.process(new UpdateMembersCommand(identifier, customerIdentifiers));
 
-    return ResponseEntity.accepted().build();
+    return CommandRestController.accepted(commandIdentifier).build();
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/{identifier}/members/{customerIdentifier}",
+      method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.ALL_VALUE
+  )
+  public
+  @ResponseBody
+  ResponseEntity<Void> addMember(@PathVariable("identifier") final String identifier,
+                                 @PathVariable("customerIdentifier") final String customerIdentifier) {
+    this.throwIfGroupNotExists(identifier);
+
+    final String commandIdentifier = this.commandTracker.process(new AddMemberCommand(identifier, customerIdentifier));
+
+    return CommandRestController.accepted(commandIdentifier).build();
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/{identifier}/members/{customerIdentifier}",
+      method = RequestMethod.DELETE,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.ALL_VALUE
+  )
+  public
+  @ResponseBody
+  ResponseEntity<Void> removeMember(@PathVariable("identifier") final String identifier,
+                                    @PathVariable("customerIdentifier") final String customerIdentifier) {
+    this.throwIfGroupNotExists(identifier);
+
+    final String commandIdentifier = this.commandTracker.process(new RemoveMemberCommand(identifier, customerIdentifier));
+
+    return CommandRestController.accepted(commandIdentifier).build();
   }
 
   @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
@@ -249,12 +439,11 @@ public class GroupRestController {
   ResponseEntity<Void> updateAssignedEmployee(@PathVariable("identifier") final String identifier,
                                               @RequestBody final AssignedEmployeeHolder assignedEmployeeHolder) {
 
-    this.groupService.findByIdentifier(identifier)
-        .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", identifier));
+    this.throwIfGroupNotExists(identifier);
 
-    this.commandGateway.process(new UpdateAssignedEmployeeCommand(identifier, assignedEmployeeHolder.getIdentifier()));
+    final String commandIdentifier = this.commandTracker.process(new UpdateAssignedEmployeeCommand(identifier, assignedEmployeeHolder.getIdentifier()));
 
-    return ResponseEntity.accepted().build();
+    return CommandRestController.accepted(commandIdentifier).build();
   }
 
   @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
@@ -267,10 +456,9 @@ public class GroupRestController {
   public
   @ResponseBody
   ResponseEntity<List<Meeting>> fetchMeetings(@PathVariable("identifier") final String groupIdentifier,
-                                              @RequestParam(value = "upcoming", required = false, defaultValue = "false") final Boolean upcoming) {
-    this.groupService.findByIdentifier(groupIdentifier)
-        .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", groupIdentifier));
-    return ResponseEntity.ok(this.groupService.findMeetings(groupIdentifier, upcoming));
+                                              @RequestParam(value = "upcoming", required = false, defaultValue = "false") final Boolean upcoming,
+                                              @RequestParam(value = "attendees", required = false, defaultValue = "true") final Boolean attendees) {
+    return ResponseEntity.ok(this.groupService.findMeetings(groupIdentifier, upcoming, attendees));
   }
 
   @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
@@ -283,11 +471,51 @@ public class GroupRestController {
   public
   ResponseEntity<Void> closeMeeting(@PathVariable("identifier") final String groupIdentifier,
                                     @RequestBody final SignOffMeeting signOffMeeting) {
-    this.groupService.findByIdentifier(groupIdentifier)
-        .orElseThrow(() -> ServiceException.notFound("Group {0} not found.", groupIdentifier));
+    this.throwIfGroupNotExists(groupIdentifier);
+
+    final String commandIdentifier = this.commandTracker.process(new SignOffMeetingCommand(groupIdentifier, signOffMeeting));
+    return CommandRestController.accepted(commandIdentifier).build();
+  }
 
-    this.commandGateway.process(new SignOffMeetingCommand(groupIdentifier, signOffMeeting));
-    return ResponseEntity.accepted().build();
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      value = "/sign-offs",
+      method = RequestMethod.POST,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.APPLICATION_JSON_VALUE
+  )
+  public
+  ResponseEntity<Void> signOffMeetings(@RequestBody final List<SignOffMeeting> signOffMeetings) {
+    if (signOffMeetings.isEmpty()) {
+      throw ServiceException.badRequest("At least one meeting must be signed off.");
+    }
+    if (signOffMeetings.stream().anyMatch(signOffMeeting -> signOffMeeting.getGroupIdentifier() == null)) {
+      throw ServiceException.badRequest("Group identifier must be given for every meeting.");
+    }
+
+    final Set<String> groupIdentifiers = signOffMeetings.stream()
+        .map(SignOffMeeting::getGroupIdentifier)
+        .collect(Collectors.toSet());
+    final Set<String> existingIdentifiers = this.groupService.findExistingIdentifiers(groupIdentifiers);
+    groupIdentifiers.stream()
+        .filter(groupIdentifier -> !existingIdentifiers.contains(groupIdentifier))
+        .findFirst()
+        .ifPresent(groupIdentifier -> {
+          throw ServiceException.notFound("Group {0} not found.", groupIdentifier);
+        });
+
+    final String commandIdentifier = this.commandTracker.process(new SignOffMeetingsCommand(signOffMeetings));
+    return CommandRestController.accepted(commandIdentifier).build();
+  }
+
+  private static String toEntityTag(final Long version) {
+    return "\"" + version + "\"";
+  }
+
+  private void throwIfGroupNotExists(final String identifier) {
+    if (!this.groupService.groupExists(identifier)) {
+      throw ServiceException.notFound("Group {0} not found.", identifier);
+    }
   }
 
   private Pageable createPageRequest(final Integer page, final Integer size, final String sortColumn, final String sortDirection) {
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cn.group.rest;
+
+import org.apache.fineract.cn.group.api.v1.PermittableGroupIds;
+import org.apache.fineract.cn.group.ServiceConstants;
+import org.apache.fineract.cn.group.internal.service.GroupService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.fineract.cn.anubis.annotation.AcceptedTokenType;
+import org.apache.fineract.cn.anubis.annotation.Permittable;
+import org.apache.fineract.cn.lang.ServiceException;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/meetings")
+public class MeetingRestController {
+
+  private final Logger logger;
+  private final GroupService groupService;
+  private final ObjectMapper objectMapper;
+
+  @Autowired
+  public MeetingRestController(@Qualifier(ServiceConstants.LOGGER_NAME) final Logger logger,
+                               final GroupService groupService,
+                               final ObjectMapper objectMapper) {
+    super();
+    this.logger = logger;
+    this.groupService = groupService;
+    this.objectMapper = objectMapper;
+  }
+
+  @Permittable(value= AcceptedTokenType.TENANT, groupId = PermittableGroupIds.GROUP)
+  @RequestMapping(
+      method = RequestMethod.GET,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      consumes = MediaType.ALL_VALUE
+  )
+  public void fetchMeetingsByEmployee(@RequestParam("employee") final String employee,
+                                     @RequestParam("from") final String from,
+                                     @RequestParam("to") final String to,
+                                     @RequestParam(value = "attendees", required = false, defaultValue = "true") final Boolean attendees,
+                                     final HttpServletResponse response) throws IOException {
+    final LocalDate fromDate = MeetingRestController.parseDate("from", from);
+    final LocalDate toDate = MeetingRestController.parseDate("to", to);
+    if (fromDate.isAfter(toDate)) {
+      throw ServiceException.badRequest("Date {0} must not be after {1}.", from, to);
+    }
+
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    try (final JsonGenerator generator = this.objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+      generator.writeStartArray();
+      this.groupService.streamMeetingsByEmployee(employee, fromDate, toDate, attendees, meeting -> {
+        try {
+          generator.writeObject(meeting);
+        } catch (final IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      });
+      generator.writeEndArray();
+    }
+  }
+
+  private static LocalDate parseDate(final String name, final String value) {
+    try {
+      return LocalDate.parse(value);
+    } catch (final DateTimeParseException ex) {
+      throw ServiceException.badRequest("Parameter {0} must be an ISO date, was {1}.", name, value);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file
+-- distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"); you may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--   http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+
+CREATE TABLE ptah_group_members (
+  id                  BIGSERIAL   NOT NULL,
+  group_id            BIGINT      NOT NULL,
+  customer_identifier VARCHAR(32) NOT NULL,
+  a_role              VARCHAR(32) NOT NULL,
+  CONSTRAINT ptah_group_members_pk PRIMARY KEY (id),
+  CONSTRAINT ptah_group_members_uq UNIQUE (group_id, a_role, customer_identifier),
+  CONSTRAINT ptah_group_members_groups_fk FOREIGN KEY (group_id) REFERENCES ptah_groups (id)
+);
+
+CREATE INDEX ptah_group_members_customer_idx ON ptah_group_members (customer_identifier, group_id);
+
+INSERT INTO ptah_group_members (group_id, customer_identifier, a_role)
+  SELECT DISTINCT g.id, m.customer_identifier, 'MEMBER'
+  FROM ptah_groups g, regexp_split_to_table(g.members, ',') AS m(customer_identifier)
+  WHERE m.customer_identifier <> '';
+
+INSERT INTO ptah_group_members (group_id, customer_identifier, a_role)
+  SELECT DISTINCT g.id, l.customer_identifier, 'LEADER'
+  FROM ptah_groups g, regexp_split_to_table(g.leaders, ',') AS l(customer_identifier)
+  WHERE l.customer_identifier <> '';
+
+ALTER TABLE ptah_groups DROP COLUMN members;
+ALTER TABLE ptah_groups DROP COLUMN leaders;
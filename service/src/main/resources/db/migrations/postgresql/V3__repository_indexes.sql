@@ -0,0 +1,27 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file
+-- distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"); you may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--   http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+
+ALTER TABLE ptah_attendees DROP CONSTRAINT ptah_meeting_attendees_fk;
+ALTER TABLE ptah_attendees ADD CONSTRAINT ptah_meeting_attendees_fk FOREIGN KEY (meeting_id) REFERENCES ptah_meetings (id);
+
+CREATE INDEX ptah_meetings_group_cycle_idx ON ptah_meetings (group_id, current_cycle, meeting_sequence);
+CREATE INDEX ptah_meetings_group_scheduled_idx ON ptah_meetings (group_id, scheduled_for);
+CREATE INDEX ptah_attendees_meeting_idx ON ptah_attendees (meeting_id, customer_identifier);
+CREATE INDEX ptah_group_commands_group_idx ON ptah_group_commands (group_id);
+CREATE INDEX ptah_groups_employee_idx ON ptah_groups (assigned_employee, identifier);
@@ -0,0 +1,29 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file
+-- distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"); you may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--   http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+
+CREATE TABLE ptah_command_status (
+  identifier   VARCHAR(36)   NOT NULL,
+  command      VARCHAR(64)   NOT NULL,
+  state        VARCHAR(32)   NOT NULL,
+  message      VARCHAR(2048) NULL,
+  created_by   VARCHAR(32)   NOT NULL,
+  created_on   TIMESTAMP(3)  NOT NULL,
+  completed_on TIMESTAMP(3)  NULL,
+  CONSTRAINT ptah_command_status_pk PRIMARY KEY (identifier)
+);
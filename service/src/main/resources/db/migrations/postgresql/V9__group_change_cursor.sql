@@ -0,0 +1,34 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file
+-- distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"); you may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--   http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+
+-- a change records the transaction that wrote it; transactions still running always have an id at or above the
+-- oldest running one, so a cursor that only passes transactions below it cannot skip a change committed later
+ALTER TABLE ptah_groups ADD COLUMN change_txid BIGINT NOT NULL DEFAULT 0;
+
+CREATE FUNCTION ptah_groups_record_change() RETURNS TRIGGER AS $$
+BEGIN
+  NEW.change_txid := txid_current();
+  RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER ptah_groups_change_trigger BEFORE INSERT OR UPDATE ON ptah_groups
+  FOR EACH ROW EXECUTE PROCEDURE ptah_groups_record_change();
+
+CREATE INDEX ptah_groups_change_cursor_idx ON ptah_groups (change_txid, identifier);